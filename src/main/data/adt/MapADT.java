@@ -0,0 +1,63 @@
+package main.data.adt;
+
+import java.util.Iterator;
+
+/**
+ * MapADT defines the interface to a collection of key-value pairs.
+ * @param <K> the type of keys held in this map
+ * @param <V> the type of values held in this map
+ */
+public interface MapADT<K, V> {
+
+    /**
+     * Associates the specified value with the specified key, replacing any previous value.
+     * @param key the key to associate the value with
+     * @param value the value to be stored
+     * @return the previous value associated with the key, or null if there was none
+     */
+    public V put(K key, V value);
+
+    /**
+     * Returns the value associated with the specified key.
+     * @param key the key being sought in this map
+     * @return the value associated with the key, or null if the key is not present
+     */
+    public V get(K key);
+
+    /**
+     * Removes the mapping for the specified key from this map.
+     * @param key the key to be removed
+     * @return the value previously associated with the key, or null if there was none
+     */
+    public V remove(K key);
+
+    /**
+     * Returns true if this map contains a mapping for the specified key.
+     * @param key the key being sought in this map
+     * @return true if the map contains the key
+     */
+    public boolean containsKey(K key);
+
+    /**
+     * Removes every mapping from this map.
+     */
+    public void clear();
+
+    /**
+     * Returns true if this map contains no mappings.
+     * @return true if this map is empty
+     */
+    public boolean isEmpty();
+
+    /**
+     * Returns the number of mappings in this map.
+     * @return the number of mappings in this map
+     */
+    public int size();
+
+    /**
+     * Returns an iterator over the keys of this map.
+     * @return an iterator over the keys of this map
+     */
+    public Iterator<K> keys();
+}
@@ -0,0 +1,135 @@
+package main.data.impl.graph;
+
+/**
+ * Disjoint-set forest over the integers 0 to count - 1, with union by size and path halving,
+ * so any sequence of operations runs in near-linear time.
+ * Elements are added one at a time, which lets the structure grow together with a graph.
+ */
+public class UnionFind {
+    /** Default initial capacity */
+    private static final int DEFAULT_CAPACITY = 10;
+    /** Parent of each element, or the element itself for a root */
+    private int[] parent;
+    /** Number of elements in the set of each root */
+    private int[] size;
+    /** Number of elements */
+    private int count;
+    /** Number of disjoint sets */
+    private int sets;
+
+    /** Creates an empty structure */
+    public UnionFind() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty structure able to hold the given number of elements without resizing
+     * @param capacity the initial capacity
+     */
+    public UnionFind(int capacity) {
+        parent = new int[Math.max(capacity, 1)];
+        size = new int[parent.length];
+        count = 0;
+        sets = 0;
+    }
+
+    /**
+     * Adds a new element in a set of its own
+     * @return the new element, which is the number of elements added before it
+     */
+    public int add() {
+        if (count == parent.length) {
+            int[] newParent = new int[parent.length * 2];
+            int[] newSize = new int[parent.length * 2];
+            System.arraycopy(parent, 0, newParent, 0, count);
+            System.arraycopy(size, 0, newSize, 0, count);
+            parent = newParent;
+            size = newSize;
+        }
+        parent[count] = count;
+        size[count] = 1;
+        sets++;
+        return count++;
+    }
+
+    /**
+     * Returns the representative of the set holding an element
+     * @param element the element to look up
+     * @return the root of the set of the element
+     * @throws IndexOutOfBoundsException if the element was never added
+     */
+    public int find(int element) {
+        if (element < 0 || element >= count) {
+            throw new IndexOutOfBoundsException("Element not in structure: " + element);
+        }
+        while (parent[element] != element) {
+            parent[element] = parent[parent[element]];
+            element = parent[element];
+        }
+        return element;
+    }
+
+    /**
+     * Merges the sets holding two elements
+     * @param a the first element
+     * @param b the second element
+     * @return true if the elements were in different sets, false if nothing changed
+     */
+    public boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return false;
+        }
+        if (size[rootA] < size[rootB]) {
+            int temp = rootA;
+            rootA = rootB;
+            rootB = temp;
+        }
+        parent[rootB] = rootA;
+        size[rootA] += size[rootB];
+        sets--;
+        return true;
+    }
+
+    /**
+     * Checks whether two elements are in the same set
+     * @param a the first element
+     * @param b the second element
+     * @return true if both elements have the same representative
+     */
+    public boolean connected(int a, int b) {
+        return find(a) == find(b);
+    }
+
+    /**
+     * Returns the number of elements in the set holding an element
+     * @param element the element to look up
+     * @return the size of its set
+     */
+    public int setSize(int element) {
+        return size[find(element)];
+    }
+
+    /**
+     * Returns the number of disjoint sets
+     * @return the number of sets
+     */
+    public int sets() {
+        return sets;
+    }
+
+    /**
+     * Returns the number of elements
+     * @return the number of elements
+     */
+    public int size() {
+        return count;
+    }
+
+    /** Removes every element */
+    public void clear() {
+        count = 0;
+        sets = 0;
+    }
+}
@@ -2,10 +2,13 @@ package main.data.impl.graph.UnweightedGraph;
 
 import main.data.adt.GraphADT;
 import main.data.impl.list.ArrayUnorderedList;
-import main.data.impl.queue.LinkedQueue;
-import main.data.impl.stack.LinkedStack;
+import main.data.impl.list.CircularArrayList;
+import main.data.impl.queue.IntQueue;
+import main.data.impl.stack.IntStack;
 
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * Graph represents an adjacency list implementation of a graph.
@@ -20,6 +23,8 @@ public class AdjListGraph<T> implements GraphADT<T> {
     protected ArrayUnorderedList<T>[] adjList;
     /** Array of vertices in the graph */
     protected T[] vertices;
+    /** The modification count for the graph */
+    protected int modCount;
 
     /** Creates an empty graph */
     public AdjListGraph() {
@@ -44,6 +49,7 @@ public class AdjListGraph<T> implements GraphADT<T> {
         vertices[numVertices] = vertex;
         adjList[numVertices] = new ArrayUnorderedList<>();
         numVertices++;
+        modCount++;
     }
 
     /** Expands the capacity of the graph's vertex array and adjacency list */
@@ -102,6 +108,7 @@ public class AdjListGraph<T> implements GraphADT<T> {
         adjList[numVertices - 1] = new ArrayUnorderedList<>();
 
         numVertices--;
+        modCount++;
     }
 
 
@@ -142,6 +149,7 @@ public class AdjListGraph<T> implements GraphADT<T> {
         if (indexIsValid(index1) && indexIsValid(index2)) {
             adjList[index1].addToRear(vertices[index2]);
             adjList[index2].addToRear(vertices[index1]);
+            modCount++;
         }
     }
 
@@ -184,95 +192,29 @@ public class AdjListGraph<T> implements GraphADT<T> {
             }
         }
         adjList[i2] = newList2;
+        modCount++;
     }
 
     /**
      * Performs a breadth-first search (BFS) traversal starting from a given vertex.
+     * Vertices are discovered lazily, as the iterator is advanced.
      * @param startVertex the starting vertex for the BFS traversal
      * @return an iterator over the vertices in the order they were visited
      */
     @Override
     public Iterator<T> interatorBFS(T startVertex) {
-        LinkedQueue<Integer> traversalQueue = new LinkedQueue<Integer>();
-        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<T>();
-
-        int startIndex = getIndex(startVertex);
-        if (!indexIsValid(startIndex)) {
-            return resultList.iterator();
-        }
-        boolean[] visited = new boolean[numVertices];
-
-        for (int i = 0; i < numVertices; i++) {
-            visited[i] = false;
-        }
-
-        traversalQueue.enqueue(startIndex);
-        visited[startIndex] = true;
-        while (!traversalQueue.isEmpty()) {
-            Integer x = traversalQueue.dequeue();
-            resultList.addToRear(vertices[x]);
-
-            Iterator<T> it = adjList[x].iterator();
-            while (it.hasNext()) {
-                T neighbor = it.next();
-                int neighborIndex = getIndex(neighbor);
-                if (neighborIndex != -1 && !visited[neighborIndex]) {
-                    traversalQueue.enqueue(neighborIndex);
-                    visited[neighborIndex] = true;
-                }
-            }
-        }
-        return resultList.iterator();
+        return new BFSIterator(getIndex(startVertex));
     }
 
     /**
      * Performs a depth-first search (DFS) traversal starting from a given vertex.
+     * Vertices are discovered lazily, as the iterator is advanced.
      * @param startVertex the starting vertex for the DFS traversal
      * @return an iterator over the vertices in the order they were visited
      */
     @Override
     public Iterator<T> interatorDFS(T startVertex) {
-        Integer x;
-        boolean found;
-        LinkedStack<Integer> traversalStack = new LinkedStack<Integer>();
-        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<T>();
-        boolean[] visited = new boolean[numVertices];
-
-        int startIndex = getIndex(startVertex);
-        if (!indexIsValid(startIndex)) {
-            return resultList.iterator();
-        }
-
-        for (int i = 0; i < numVertices; i++) {
-            visited[i] = false;
-        }
-
-        traversalStack.push(startIndex);
-        resultList.addToRear(vertices[startIndex]);
-        visited[startIndex] = true;
-
-        while (!traversalStack.isEmpty()) {
-            x = traversalStack.peek();
-            found = false;
-
-            Iterator<T> it = adjList[x].iterator();
-            while (it.hasNext() && !found) {
-                T neighbor = it.next();
-                int neighborIndex = getIndex(neighbor);
-                if (neighborIndex != -1 && !visited[neighborIndex]) {
-                    traversalStack.push(neighborIndex);
-                    resultList.addToRear(vertices[neighborIndex]);
-                    visited[neighborIndex] = true;
-                    found = true;
-                }
-            }
-
-            if (!found && !traversalStack.isEmpty()) {
-                traversalStack.pop();
-            }
-        }
-
-        return resultList.iterator();
+        return new DFSIterator(getIndex(startVertex));
     }
 
     /**
@@ -283,14 +225,14 @@ public class AdjListGraph<T> implements GraphADT<T> {
      */
     @Override
     public Iterator<T> interatorShortestPath(T startVertex, T targetVertex) {
-        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<T>();
+        CircularArrayList<T> resultList = new CircularArrayList<>();
         int startIndex = getIndex(startVertex);
         int targetIndex = getIndex(targetVertex);
         if (!indexIsValid(startIndex) || !indexIsValid(targetIndex)) {
             return resultList.iterator();
         }
 
-        LinkedQueue<Integer> q = new LinkedQueue<>();
+        IntQueue q = new IntQueue(numVertices);
         boolean[] visited = new boolean[numVertices];
         int[] pred = new int[numVertices];
         for (int i = 0; i < numVertices; i++) {
@@ -325,16 +267,11 @@ public class AdjListGraph<T> implements GraphADT<T> {
         }
 
         int crawl = targetIndex;
-        ArrayUnorderedList<T> reverse = new ArrayUnorderedList<>();
         while (crawl != -1) {
-            reverse.addToRear(vertices[crawl]);
+            resultList.addToFront(vertices[crawl]);
             crawl = pred[crawl];
         }
 
-        for (T vertex : reverse) {
-            resultList.addToFront(vertex);
-        }
-
         return resultList.iterator();
     }
 
@@ -375,4 +312,119 @@ public class AdjListGraph<T> implements GraphADT<T> {
         return numVertices;
     }
 
+    /** A fail-fast breadth first iterator that discovers each vertex only when it is requested. */
+    private class BFSIterator implements Iterator<T> {
+        /** Queue of discovered vertices waiting to be returned */
+        private final IntQueue traversalQueue = new IntQueue();
+        /** Vertices already discovered */
+        private final boolean[] visited = new boolean[numVertices];
+        /** Expected modification count for concurrent modification check */
+        private final int expectedModCount = modCount;
+
+        /**
+         * Creates an iterator starting at the given vertex index
+         * @param startIndex index of the starting vertex, or an invalid index for an empty traversal
+         */
+        BFSIterator(int startIndex) {
+            if (indexIsValid(startIndex)) {
+                traversalQueue.enqueue(startIndex);
+                visited[startIndex] = true;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            return !traversalQueue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int x = traversalQueue.dequeue();
+            Iterator<T> it = adjList[x].iterator();
+            while (it.hasNext()) {
+                int neighborIndex = getIndex(it.next());
+                if (neighborIndex != -1 && !visited[neighborIndex]) {
+                    traversalQueue.enqueue(neighborIndex);
+                    visited[neighborIndex] = true;
+                }
+            }
+            return vertices[x];
+        }
+    }
+
+    /**
+     * A fail-fast depth first iterator that advances the traversal only when the next vertex is requested.
+     * Each stack frame keeps its position in the vertex's neighbor list, so no list is scanned twice.
+     */
+    private class DFSIterator implements Iterator<T> {
+        /** Vertices on the current traversal path */
+        private final IntStack pathStack = new IntStack();
+        /** Position of the next neighbor to inspect for each vertex on the traversal path */
+        private final IntStack neighborStack = new IntStack();
+        /** Vertices already discovered */
+        private final boolean[] visited = new boolean[numVertices];
+        /** Index of the next vertex to return, or -1 if it has not been found yet */
+        private int nextIndex;
+        /** Expected modification count for concurrent modification check */
+        private final int expectedModCount = modCount;
+
+        /**
+         * Creates an iterator starting at the given vertex index
+         * @param startIndex index of the starting vertex, or an invalid index for an empty traversal
+         */
+        DFSIterator(int startIndex) {
+            nextIndex = -1;
+            if (indexIsValid(startIndex)) {
+                nextIndex = startIndex;
+                visited[startIndex] = true;
+            }
+        }
+
+        /** Advances the traversal until an undiscovered vertex is found or the stack is exhausted */
+        private void advance() {
+            while (nextIndex == -1 && !pathStack.isEmpty()) {
+                ArrayUnorderedList<T> neighbors = adjList[pathStack.peek()];
+                int i = neighborStack.pop();
+                while (i < neighbors.size() && nextIndex == -1) {
+                    int neighborIndex = getIndex(neighbors.get(i++));
+                    if (neighborIndex != -1 && !visited[neighborIndex]) {
+                        visited[neighborIndex] = true;
+                        nextIndex = neighborIndex;
+                    }
+                }
+                if (nextIndex == -1) {
+                    pathStack.pop();
+                } else {
+                    neighborStack.push(i);
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            advance();
+            return nextIndex != -1;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int x = nextIndex;
+            nextIndex = -1;
+            pathStack.push(x);
+            neighborStack.push(0);
+            return vertices[x];
+        }
+    }
 }
@@ -3,13 +3,17 @@ package main.data.impl.graph.UnweightedGraph;
 
 import main.data.adt.GraphADT;
 import main.data.impl.list.ArrayUnorderedList;
-import main.data.impl.queue.LinkedQueue;
-import main.data.impl.stack.LinkedStack;
+import main.data.impl.list.CircularArrayList;
+import main.data.impl.queue.IntQueue;
 
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * Graph represents an adjacency matrix implementation of a graph.
+ * Each row of the matrix is packed into a bitset of longs, so 64 cells are read or written with a single operation
+ * and traversals can process a whole word of neighbors at a time.
  * @param <T> the type of elements stored in the graph
  */
 public class MatrixGraph<T> implements GraphADT<T> {
@@ -17,20 +21,73 @@ public class MatrixGraph<T> implements GraphADT<T> {
     protected final int DEFAULT_CAPACITY = 10;
     /** Number of vertices in the graph */
     protected int numVertices;
-    /** Adjacency matrix to represent the graph */
-    protected boolean[][] adjMatrix;
+    /** Adjacency matrix to represent the graph, one bitset per row where bit j of row i marks an edge from i to j */
+    protected long[][] adjMatrix;
     /** Array to hold the vertices of the graph */
     protected T[] vertices;
+    /** The modification count for the graph */
+    protected int modCount;
 
     /**
      * Creates an empty graph
      */
     public MatrixGraph() {
         numVertices = 0;
-        this.adjMatrix = new boolean[DEFAULT_CAPACITY][DEFAULT_CAPACITY];
+        this.adjMatrix = new long[DEFAULT_CAPACITY][wordsFor(DEFAULT_CAPACITY)];
         this.vertices = (T[]) new Object[DEFAULT_CAPACITY];
     }
 
+    /**
+     * Returns the number of longs needed to hold the given number of bits
+     * @param bits the number of bits
+     * @return the number of words
+     */
+    private static int wordsFor(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    /**
+     * Finds the first neighbor of a vertex, at or after the given column, that has not been visited yet
+     * @param x the vertex whose neighbors are searched
+     * @param from the first column to consider
+     * @param visited bitset of the visited vertices
+     * @return the index of the neighbor, or -1 if there is none
+     */
+    private int nextUnvisitedNeighbor(int x, int from, long[] visited) {
+        if (from >= numVertices) {
+            return -1;
+        }
+        long[] row = adjMatrix[x];
+        int words = wordsFor(numVertices);
+        int w = from >>> 6;
+        long bits = row[w] & ~visited[w] & (-1L << from);
+        while (true) {
+            if (bits != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++w == words) {
+                return -1;
+            }
+            bits = row[w] & ~visited[w];
+        }
+    }
+
+    /**
+     * Removes a bit from a bitset, shifting every higher bit down by one position
+     * @param bits the bitset to change
+     * @param index the position of the bit to remove
+     * @param words the number of words in use
+     */
+    private static void removeBit(long[] bits, int index, int words) {
+        int w = index >>> 6;
+        long lowMask = (1L << index) - 1;
+        bits[w] = (bits[w] & lowMask) | ((bits[w] >>> 1) & ~lowMask);
+        for (int k = w + 1; k < words; k++) {
+            bits[k - 1] |= bits[k] << 63;
+            bits[k] >>>= 1;
+        }
+    }
+
     /**
      * Adds a vertex to the graph, expanding the capacity of the gaph if necessary
      * It also associates an object with the vertex
@@ -42,12 +99,17 @@ public class MatrixGraph<T> implements GraphADT<T> {
             expandCapacity();
         }
         vertices[numVertices] = vertex;
-        for (int i = 0; i <= numVertices; i++) {
-            adjMatrix[numVertices][i] = false;
-            adjMatrix[i][numVertices] = false;
+        long[] row = adjMatrix[numVertices];
+        for (int w = 0; w < row.length; w++) {
+            row[w] = 0L;
+        }
+        long clear = ~(1L << numVertices);
+        int w = numVertices >>> 6;
+        for (int i = 0; i < numVertices; i++) {
+            adjMatrix[i][w] &= clear;
         }
         numVertices++;
-        
+        modCount++;
     }
 
     /**
@@ -59,11 +121,9 @@ public class MatrixGraph<T> implements GraphADT<T> {
         for (int i = 0; i < vertices.length; i++) {
             newVertices[i] = vertices[i];
         }
-        boolean[][] newAdj = new boolean[newCapacity][newCapacity];
+        long[][] newAdj = new long[newCapacity][wordsFor(newCapacity)];
         for (int i = 0; i < adjMatrix.length; i++) {
-            for (int j = 0; j < adjMatrix.length; j++) {
-                newAdj[i][j] = adjMatrix[i][j];
-            }
+            System.arraycopy(adjMatrix[i], 0, newAdj[i], 0, adjMatrix[i].length);
         }
         vertices = newVertices;
         adjMatrix = newAdj;
@@ -85,24 +145,22 @@ public class MatrixGraph<T> implements GraphADT<T> {
         }
         vertices[numVertices - 1] = null;
 
+        long[] removedRow = adjMatrix[idx];
         for (int i = idx; i < numVertices - 1; i++) {
-            for (int j = 0; j < numVertices; j++) {
-                adjMatrix[i][j] = adjMatrix[i + 1][j];
-            }
+            adjMatrix[i] = adjMatrix[i + 1];
         }
-
-        for (int j = idx; j < numVertices - 1; j++) {
-            for (int i = 0; i < numVertices - 1; i++) {
-                adjMatrix[i][j] = adjMatrix[i][j + 1];
-            }
+        for (int w = 0; w < removedRow.length; w++) {
+            removedRow[w] = 0L;
         }
+        adjMatrix[numVertices - 1] = removedRow;
 
-        for (int i = 0; i < numVertices; i++) {
-            adjMatrix[numVertices - 1][i] = false;
-            adjMatrix[i][numVertices - 1] = false;
+        int words = wordsFor(numVertices);
+        for (int i = 0; i < numVertices - 1; i++) {
+            removeBit(adjMatrix[i], idx, words);
         }
 
         numVertices--;
+        modCount++;
     }
 
     /**
@@ -140,8 +198,9 @@ public class MatrixGraph<T> implements GraphADT<T> {
      */
     public void addEdge(int index1, int index2) {
         if (indexIsValid(index1) && indexIsValid(index2)) {
-            adjMatrix[index1][index2] = true;
-            adjMatrix[index2][index1] = true;
+            adjMatrix[index1][index2 >>> 6] |= 1L << index2;
+            adjMatrix[index2][index1 >>> 6] |= 1L << index1;
+            modCount++;
         }
     }
 
@@ -164,95 +223,32 @@ public class MatrixGraph<T> implements GraphADT<T> {
         int index1 = getIndex(vertex1);
         int index2 = getIndex(vertex2);
         if (indexIsValid(index1) && indexIsValid(index2)) {
-            adjMatrix[index1][index2] = false;
-            adjMatrix[index2][index1] = false;
+            adjMatrix[index1][index2 >>> 6] &= ~(1L << index2);
+            adjMatrix[index2][index1 >>> 6] &= ~(1L << index1);
+            modCount++;
         }
     }
 
     /**
-     * Returns an iterator that performs a breadth first search traversal starting at the given vertex
+     * Returns an iterator that performs a breadth first search traversal starting at the given vertex.
+     * Vertices are discovered lazily, as the iterator is advanced.
      * @param startVertex the index to begin the search from
      * @return an iterator that performs a breadth first search traversal
      */
     @Override
     public Iterator<T> interatorBFS(T startVertex) {
-        Integer x;
-        LinkedQueue<Integer> traversalQueue = new LinkedQueue<Integer>();
-        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<T>();
-
-        int startIndex = getIndex(startVertex);
-        if (!indexIsValid(startIndex)) {
-            return resultList.iterator();
-        }
-        boolean[] visited = new boolean[numVertices];
-        for (int i = 0; i < numVertices; i++) {
-            visited[i] = false;
-        }
-        
-        traversalQueue.enqueue(startIndex);
-        visited[startIndex] = true;
-        
-        while (!traversalQueue.isEmpty()) {
-            x = traversalQueue.dequeue();
-            resultList.addToRear(vertices[x]);
-            /**
-             * Find all vertices adjacent to x that have not been visited and enqueue them up
-             */
-            for (int i = 0; i < numVertices; i++) {
-                if (adjMatrix[x][i] && !visited[i]) {
-                    traversalQueue.enqueue(i);
-                    visited[i] = true;
-                }
-            }
-        }
-        return resultList.iterator();
+        return new BFSIterator(getIndex(startVertex));
     }
 
     /**
-     * Returns an iterator that performs a depth first search traversal starting at the given vertex
+     * Returns an iterator that performs a depth first search traversal starting at the given vertex.
+     * Vertices are discovered lazily, as the iterator is advanced.
      * @param startVertex the index to begin the search transversal from
      * @return an iterator that performs a depth first search traversal
      */
     @Override
     public Iterator<T> interatorDFS(T startVertex) {
-        Integer x;
-        boolean found;
-        LinkedStack<Integer> traversalStack = new LinkedStack<Integer>();
-        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<T>();
-        boolean[] visited = new boolean[numVertices];
-
-        int startIndex = getIndex(startVertex);
-        if(!indexIsValid(startIndex)) {
-            return resultList.iterator();
-        }
-        
-        for (int i = 0; i < numVertices; i++) {
-            visited[i] = false;
-        }
-        
-        traversalStack.push(startIndex);
-        resultList.addToRear(vertices[startIndex]);
-        visited[startIndex] = true;
-        
-        while (!traversalStack.isEmpty()) {
-            x = traversalStack.peek();
-            found = false;
-            /**
-             * Find a vertex adjacent to x that has not been visited and push it on the stack
-             */
-            for (int i = 0; i < numVertices && !found; i++) {
-                if (adjMatrix[x][i] && !visited[i]) {
-                    traversalStack.push(i);
-                    resultList.addToRear(vertices[i]);
-                    visited[i] = true;
-                    found = true;
-                }
-            }
-            if (!found && !traversalStack.isEmpty()) {
-                traversalStack.pop();
-            }
-        }
-        return resultList.iterator();
+        return new DFSIterator(getIndex(startVertex));
     }
 
     /**
@@ -263,55 +259,47 @@ public class MatrixGraph<T> implements GraphADT<T> {
      */
     @Override
     public Iterator<T> interatorShortestPath(T startVertex, T targetVertex) {
-        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<T>();
+        CircularArrayList<T> resultList = new CircularArrayList<>();
         int startIndex = getIndex(startVertex);
         int targetIndex = getIndex(targetVertex);
         if (!indexIsValid(startIndex) || !indexIsValid(targetIndex)) {
             return resultList.iterator();
         }
 
-        LinkedQueue<Integer> q = new LinkedQueue<Integer>();
-        boolean[] visited = new boolean[numVertices];
+        IntQueue q = new IntQueue(numVertices);
+        long[] visited = new long[wordsFor(numVertices)];
         int[] pred = new int[numVertices];
         for (int i = 0; i < numVertices; i++) {
-            visited[i] = false;
             pred[i] = -1;
         }
 
-        visited[startIndex] = true;
+        visited[startIndex >>> 6] |= 1L << startIndex;
         q.enqueue(startIndex);
         boolean found = false;
 
         while (!q.isEmpty() && !found) {
             int u = q.dequeue();
-            for (int v = 0; v < numVertices; v++) {
-                if (adjMatrix[u][v] && !visited[v]) {
-                    visited[v] = true;
-                    pred[v] = u;
-                    q.enqueue(v);
-                    if (v == targetIndex) {
-                        found = true;
-                        break;
-                    }
+            for (int v = nextUnvisitedNeighbor(u, 0, visited); v != -1; v = nextUnvisitedNeighbor(u, v + 1, visited)) {
+                visited[v >>> 6] |= 1L << v;
+                pred[v] = u;
+                q.enqueue(v);
+                if (v == targetIndex) {
+                    found = true;
+                    break;
                 }
             }
         }
 
-        if (!visited[targetIndex]) {
+        if ((visited[targetIndex >>> 6] & (1L << targetIndex)) == 0) {
             return resultList.iterator();
         }
 
         int crawl = targetIndex;
-        ArrayUnorderedList<T> reverse = new ArrayUnorderedList<T>();
         while (crawl != -1) {
-            reverse.addToRear(vertices[crawl]);
+            resultList.addToFront(vertices[crawl]);
             crawl = pred[crawl];
         }
 
-        for (T vertex : reverse) {
-            resultList.addToFront(vertex);
-        }
-
         return resultList.iterator();
     }
 
@@ -330,7 +318,75 @@ public class MatrixGraph<T> implements GraphADT<T> {
      */
     @Override
     public boolean isConnected() {
-        return false;
+        if (isEmpty()) {
+            return true;
+        }
+        long[] reached = reachableFrom(0);
+        int count = 0;
+        for (long word : reached) {
+            count += Long.bitCount(word);
+        }
+        return count == numVertices;
+    }
+
+    /**
+     * Checks if there is a path between two vertices
+     * @param startVertex the starting vertex
+     * @param targetVertex the target vertex
+     * @return true if the target can be reached from the start, false otherwise or if a vertex is not in the graph
+     */
+    public boolean isReachable(T startVertex, T targetVertex) {
+        int startIndex = getIndex(startVertex);
+        int targetIndex = getIndex(targetVertex);
+        if (!indexIsValid(startIndex) || !indexIsValid(targetIndex)) {
+            return false;
+        }
+        return (reachableFrom(startIndex)[targetIndex >>> 6] & (1L << targetIndex)) != 0;
+    }
+
+    /**
+     * Computes the set of vertices reachable from a vertex with a level-synchronous breadth first search.
+     * Each level is built a word at a time: the rows of the frontier vertices are OR-ed together
+     * and the vertices already visited are masked out with AND-NOT.
+     * @param startIndex index of the starting vertex
+     * @return bitset of the reachable vertices, including the start
+     */
+    private long[] reachableFrom(int startIndex) {
+        int words = wordsFor(numVertices);
+        long[] visited = new long[words];
+        long[] frontier = new long[words];
+        long[] next = new long[words];
+        frontier[startIndex >>> 6] = 1L << startIndex;
+        visited[startIndex >>> 6] = 1L << startIndex;
+
+        boolean grew = true;
+        while (grew) {
+            for (int w = 0; w < words; w++) {
+                next[w] = 0L;
+            }
+            for (int w = 0; w < words; w++) {
+                long bits = frontier[w];
+                while (bits != 0) {
+                    long[] row = adjMatrix[(w << 6) + Long.numberOfTrailingZeros(bits)];
+                    for (int k = 0; k < words; k++) {
+                        next[k] |= row[k];
+                    }
+                    bits &= bits - 1;
+                }
+            }
+            grew = false;
+            for (int w = 0; w < words; w++) {
+                next[w] &= ~visited[w];
+                visited[w] |= next[w];
+                if (next[w] != 0) {
+                    grew = true;
+                }
+            }
+            long[] swap = frontier;
+            frontier = next;
+            next = swap;
+        }
+        return visited;
     }
 
     /**
@@ -341,4 +397,120 @@ public class MatrixGraph<T> implements GraphADT<T> {
     public int size() {
         return numVertices;
     }
+
+    /** A fail-fast breadth first iterator that discovers each vertex only when it is requested. */
+    private class BFSIterator implements Iterator<T> {
+        /** Queue of discovered vertices waiting to be returned */
+        private final IntQueue traversalQueue = new IntQueue();
+        /** Bitset of the vertices already discovered */
+        private final long[] visited = new long[wordsFor(numVertices)];
+        /** Expected modification count for concurrent modification check */
+        private final int expectedModCount = modCount;
+
+        /**
+         * Creates an iterator starting at the given vertex index
+         * @param startIndex index of the starting vertex, or an invalid index for an empty traversal
+         */
+        BFSIterator(int startIndex) {
+            if (indexIsValid(startIndex)) {
+                traversalQueue.enqueue(startIndex);
+                visited[startIndex >>> 6] |= 1L << startIndex;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            return !traversalQueue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int x = traversalQueue.dequeue();
+            long[] row = adjMatrix[x];
+            for (int w = 0; w < visited.length; w++) {
+                long bits = row[w] & ~visited[w];
+                visited[w] |= bits;
+                while (bits != 0) {
+                    traversalQueue.enqueue((w << 6) + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+            return vertices[x];
+        }
+    }
+
+    /**
+     * A fail-fast depth first iterator that advances the traversal only when the next vertex is requested.
+     * Each stack frame remembers the next column of its row to inspect, so no row is scanned twice.
+     */
+    private class DFSIterator implements Iterator<T> {
+        /** Vertices on the current traversal path */
+        private final int[] stackVertex = new int[numVertices];
+        /** Next column to inspect for each vertex on the traversal path */
+        private final int[] stackColumn = new int[numVertices];
+        /** Number of vertices on the traversal path */
+        private int top;
+        /** Bitset of the vertices already discovered */
+        private final long[] visited = new long[wordsFor(numVertices)];
+        /** Index of the next vertex to return, or -1 if it has not been found yet */
+        private int nextIndex;
+        /** Expected modification count for concurrent modification check */
+        private final int expectedModCount = modCount;
+
+        /**
+         * Creates an iterator starting at the given vertex index
+         * @param startIndex index of the starting vertex, or an invalid index for an empty traversal
+         */
+        DFSIterator(int startIndex) {
+            top = 0;
+            nextIndex = -1;
+            if (indexIsValid(startIndex)) {
+                nextIndex = startIndex;
+                visited[startIndex >>> 6] |= 1L << startIndex;
+            }
+        }
+
+        /** Advances the traversal until an undiscovered vertex is found or the stack is exhausted */
+        private void advance() {
+            while (nextIndex == -1 && top > 0) {
+                int x = stackVertex[top - 1];
+                int i = nextUnvisitedNeighbor(x, stackColumn[top - 1], visited);
+                if (i != -1) {
+                    visited[i >>> 6] |= 1L << i;
+                    nextIndex = i;
+                    stackColumn[top - 1] = i + 1;
+                } else {
+                    top--;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            advance();
+            return nextIndex != -1;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int x = nextIndex;
+            nextIndex = -1;
+            stackVertex[top] = x;
+            stackColumn[top] = 0;
+            top++;
+            return vertices[x];
+        }
+    }
 }
@@ -1,11 +1,18 @@
 package main.data.impl.graph.WeightedGraph;
 
 import main.data.adt.GraphADT;
+import main.data.impl.graph.UnionFind;
+import main.data.impl.heap.IndexedMinHeap;
 import main.data.impl.list.ArrayUnorderedList;
-import main.data.impl.queue.LinkedQueue;
-import main.data.impl.stack.LinkedStack;
+import main.data.impl.list.CircularArrayList;
+import main.data.impl.map.HashMap;
+import main.data.impl.map.LRUCache;
+import main.data.impl.queue.IntQueue;
+import main.data.impl.stack.IntStack;
 
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * Adjacency List implementation of a graph data structure.
@@ -20,11 +27,58 @@ public class AdjListGraph<T> implements GraphADT<T>, Iterable<T> {
     protected ArrayUnorderedList<Edge>[] adjList;
     /** Array of vertices in the graph */
     protected T[] vertices;
+    /** Index of each vertex in the vertices array, kept in sync with every insertion and removal */
+    protected HashMap<T, Integer> vertexIndex;
+    /** The modification count for the graph */
+    protected int modCount;
+    /** Number of vertices equal to a vertex added before them, which the vertex index does not point to */
+    protected int duplicateCount;
+    /** Algorithm used to compute shortest paths in this graph */
+    protected ShortestPathMode shortestPathMode = ShortestPathMode.BINARY_HEAP;
+    /** Connected components, kept up to date on every vertex and edge insertion */
+    protected UnionFind components = new UnionFind();
+    /** Whether a removal left the components out of date, so they must be rebuilt before the next query */
+    protected boolean componentsStale;
+    /** Number of times the blocked state of an edge has changed */
+    protected int edgeStateVersion;
+    /** Number of recent edge state changes remembered for incremental distance fields */
+    private static final int EDGE_LOG_SIZE = 256;
+    /** Tail of the edge changed at each edge state version, indexed by version modulo the log size */
+    private final int[] edgeLogFrom = new int[EDGE_LOG_SIZE];
+    /** Vertices reachable through unblocked edges from each source queried so far */
+    private HashMap<Integer, boolean[]> openReachCache = new HashMap<>();
+    /** Modification count the open reachability cache was built for */
+    private int openReachModCount;
+    /** Recent shortest paths by start and target index, or null if path caching is disabled */
+    private LRUCache<Long, CircularArrayList<T>> pathCache;
+    /** Graph version the cached paths were computed for, combining the modification count and edge state version */
+    private long pathCacheVersion;
+    /** Strategy used to remove vertices from this graph */
+    protected RemovalMode removalMode = RemovalMode.SHIFT;
+
+    /** Algorithms available to compute shortest paths */
+    public enum ShortestPathMode {
+        /** Dijkstra selecting the closest vertex by scanning all vertices, O(V^2) */
+        LINEAR_SCAN,
+        /** Dijkstra backed by an indexed binary heap with decrease-key, O((V + E) log V) */
+        BINARY_HEAP,
+        /** Two heap-based Dijkstra searches, from the source and from the target, that stop when they meet */
+        BIDIRECTIONAL
+    }
+
+    /** Strategies available to remove a vertex */
+    public enum RemovalMode {
+        /** Shifts every later vertex down one index, keeping insertion order, and renumbers every edge, O(V + E) */
+        SHIFT,
+        /** Moves the last vertex into the freed index and rewrites only the lists of the neighbors of both vertices */
+        SWAP_WITH_LAST
+    }
 
     /** Constructor to initialize an empty graph */
     public AdjListGraph() {
         numVertices = 0;
         this.vertices = (T[]) new Object[DEFAULT_CAPACITY];
+        this.vertexIndex = new HashMap<>();
         this.adjList = (ArrayUnorderedList<Edge>[]) new ArrayUnorderedList[DEFAULT_CAPACITY];
         for (int i = 0; i < this.adjList.length; i++) {
             this.adjList[i] = new ArrayUnorderedList<>();
@@ -37,6 +91,8 @@ public class AdjListGraph<T> implements GraphADT<T>, Iterable<T> {
         int index;
         /** Weight of the edge */
         double weight;
+        /** Whether the edge is currently closed to the blocked-aware queries */
+        boolean blocked;
 
         /**
          * Constructor to create an edge with the specified index and weight
@@ -54,7 +110,11 @@ public class AdjListGraph<T> implements GraphADT<T>, Iterable<T> {
         if (numVertices == vertices.length) expandCapacity();
         vertices[numVertices] = vertex;
         adjList[numVertices] = new ArrayUnorderedList<>();
+        if (!vertexIndex.containsKey(vertex)) vertexIndex.put(vertex, numVertices);
+        else duplicateCount++;
+        if (!componentsStale) components.add();
         numVertices++;
+        modCount++;
     }
 
 
@@ -78,45 +138,120 @@ public class AdjListGraph<T> implements GraphADT<T>, Iterable<T> {
         int idx = getIndex(vertex);
         if (!indexIsValid(idx)) return;
 
+        if (removalMode == RemovalMode.SWAP_WITH_LAST) removeBySwap(idx);
+        else removeByShift(idx);
+
+        componentsStale = true;
+        vertexIndex.remove(vertex);
+        if (duplicateCount > 0) {
+            for (int i = 0; i < numVertices; i++) {
+                if (vertices[i] == null ? vertex == null : vertices[i].equals(vertex)) {
+                    vertexIndex.put(vertex, i);
+                    duplicateCount--;
+                    break;
+                }
+            }
+        }
+        modCount++;
+    }
+
+    /**
+     * Removes the vertex at the given index by shifting every later vertex down one position.
+     * Surviving edges are renumbered in place rather than copied; only the edges to the removed vertex
+     * are collected in a temporary list, and the vacated last slot gets a fresh empty list.
+     * @param idx index of the vertex to remove
+     */
+    private void removeByShift(int idx) {
         for (int i = 0; i < numVertices; i++) {
             if (i == idx) continue;
-            ArrayUnorderedList<Edge> newList = new ArrayUnorderedList<>();
+            removeEdgesTo(i, idx);
             Iterator<Edge> it = adjList[i].iterator();
             while (it.hasNext()) {
                 Edge e = it.next();
-                if (e.index == idx) continue;
-                int newIndex = e.index > idx ? e.index - 1 : e.index;
-                newList.addToRear(new Edge(newIndex, e.weight));
+                if (e.index > idx) e.index--;
             }
-            adjList[i] = newList;
         }
 
-        for (int i = idx; i < numVertices - 1; i++) vertices[i] = vertices[i + 1];
+        for (int i = idx; i < numVertices - 1; i++) {
+            vertices[i] = vertices[i + 1];
+            Integer previous = vertexIndex.get(vertices[i]);
+            if (previous != null && previous == i + 1) vertexIndex.put(vertices[i], i);
+        }
         vertices[numVertices - 1] = null;
 
         for (int i = idx; i < numVertices - 1; i++) adjList[i] = adjList[i + 1];
         adjList[numVertices - 1] = new ArrayUnorderedList<>();
+        numVertices--;
+    }
+
+    /**
+     * Removes the vertex at the given index by moving the last vertex into its place.
+     * Only the lists of the neighbors of the removed and of the moved vertex are touched.
+     * @param idx index of the vertex to remove
+     */
+    private void removeBySwap(int idx) {
+        int last = numVertices - 1;
 
+        Iterator<Edge> it = adjList[idx].iterator();
+        while (it.hasNext()) {
+            int neighbor = it.next().index;
+            if (neighbor != idx) removeEdgesTo(neighbor, idx);
+        }
+
+        if (idx != last) {
+            Iterator<Edge> lastEdges = adjList[last].iterator();
+            while (lastEdges.hasNext()) {
+                Iterator<Edge> back = adjList[lastEdges.next().index].iterator();
+                while (back.hasNext()) {
+                    Edge e = back.next();
+                    if (e.index == last) e.index = idx;
+                }
+            }
+
+            vertices[idx] = vertices[last];
+            adjList[idx] = adjList[last];
+            Integer previous = vertexIndex.get(vertices[idx]);
+            if (previous != null && (previous == last || idx < previous)) vertexIndex.put(vertices[idx], idx);
+        }
+        vertices[last] = null;
+        adjList[last] = new ArrayUnorderedList<>();
         numVertices--;
     }
 
+    /**
+     * Removes every edge of a vertex that leads to the given target.
+     * The matching edges are first collected in a temporary list, allocated only when there is a match.
+     * @param vertex index of the vertex whose list is changed
+     * @param target index of the vertex the removed edges lead to
+     */
+    private void removeEdgesTo(int vertex, int target) {
+        ArrayUnorderedList<Edge> toRemove = null;
+        Iterator<Edge> it = adjList[vertex].iterator();
+        while (it.hasNext()) {
+            Edge e = it.next();
+            if (e.index == target) {
+                if (toRemove == null) toRemove = new ArrayUnorderedList<>();
+                toRemove.addToRear(e);
+            }
+        }
+        if (toRemove == null) return;
+        for (Edge e : toRemove) adjList[vertex].remove(e);
+    }
+
     @Override
     public void addEdge(T vertex1, T vertex2, double weight) {
         addEdge(getIndex(vertex1), getIndex(vertex2), weight);
     }
 
     /**
-     * Retrieves the index of the specified vertex.
+     * Retrieves the index of the specified vertex in constant time through the vertex index.
+     * When the same vertex was added more than once, the index of its first occurrence is returned.
      * @param vertex the vertex to find
      * @return the index of the vertex, or -1 if not found
      */
     private int getIndex(T vertex) {
-        for (int i = 0; i < numVertices; i++) {
-            if (vertices[i] == null) {
-                if (vertex == null) return i;
-            } else if (vertices[i].equals(vertex)) return i;
-        }
-        return -1;
+        Integer index = vertexIndex.get(vertex);
+        return index == null ? -1 : index;
     }
 
     /**
@@ -129,6 +264,8 @@ public class AdjListGraph<T> implements GraphADT<T>, Iterable<T> {
         if (indexIsValid(index1) && indexIsValid(index2)) {
             adjList[index1].addToRear(new Edge(index2, weight));
             adjList[index2].addToRear(new Edge(index1, weight));
+            if (!componentsStale) components.union(index1, index2);
+            modCount++;
         }
     }
 
@@ -147,96 +284,138 @@ public class AdjListGraph<T> implements GraphADT<T>, Iterable<T> {
         int i2 = getIndex(vertex2);
         if (!indexIsValid(i1) || !indexIsValid(i2)) return;
 
-        ArrayUnorderedList<Edge> newList1 = new ArrayUnorderedList<>();
-        Iterator<Edge> it1 = adjList[i1].iterator();
-        while (it1.hasNext()) {
-            Edge e = it1.next();
-            if (e.index != i2) newList1.addToRear(new Edge(e.index, e.weight));
-        }
-        adjList[i1] = newList1;
-
-        ArrayUnorderedList<Edge> newList2 = new ArrayUnorderedList<>();
-        Iterator<Edge> it2 = adjList[i2].iterator();
-        while (it2.hasNext()) {
-            Edge e = it2.next();
-            if (e.index != i1) newList2.addToRear(new Edge(e.index, e.weight));
-        }
-        adjList[i2] = newList2;
+        removeEdgesTo(i1, i2);
+        removeEdgesTo(i2, i1);
+        componentsStale = true;
+        modCount++;
     }
 
     @Override
     public Iterator<T> interatorBFS(T startVertex) {
-        LinkedQueue<Integer> traversalQueue = new LinkedQueue<>();
-        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<>();
+        return new BFSIterator(getIndex(startVertex));
+    }
+
+    @Override
+    public Iterator<T> interatorDFS(T startVertex) {
+        return new DFSIterator(getIndex(startVertex));
+    }
+
+    @Override
+    public Iterator<T> interatorShortestPath(T startVertex, T targetVertex) {
         int startIndex = getIndex(startVertex);
-        if (!indexIsValid(startIndex)) return resultList.iterator();
-        boolean[] visited = new boolean[numVertices];
+        int targetIndex = getIndex(targetVertex);
+        if (!indexIsValid(startIndex) || !indexIsValid(targetIndex)) {
+            return new ArrayUnorderedList<T>().iterator();
+        }
 
-        traversalQueue.enqueue(startIndex);
-        visited[startIndex] = true;
-        while (!traversalQueue.isEmpty()) {
-            int x = traversalQueue.dequeue();
-            resultList.addToRear(vertices[x]);
-            Iterator<Edge> it = adjList[x].iterator();
-            while (it.hasNext()) {
-                Edge e = it.next();
-                int neighborIndex = e.index;
-                if (!visited[neighborIndex]) {
-                    traversalQueue.enqueue(neighborIndex);
-                    visited[neighborIndex] = true;
-                }
+        Long key = null;
+        if (pathCache != null) {
+            long version = ((long) modCount << 32) | (edgeStateVersion & 0xFFFFFFFFL);
+            if (version != pathCacheVersion) {
+                pathCache.clear();
+                pathCacheVersion = version;
             }
+            key = ((long) startIndex << 32) | targetIndex;
+            CircularArrayList<T> cached = pathCache.get(key);
+            if (cached != null) return cached.iterator();
         }
-        return resultList.iterator();
+
+        int[] pred = new int[numVertices];
+        for (int i = 0; i < numVertices; i++) pred[i] = -1;
+
+        if (shortestPathMode == ShortestPathMode.BINARY_HEAP) {
+            dijkstraHeap(startIndex, targetIndex, pred);
+        } else if (shortestPathMode == ShortestPathMode.BIDIRECTIONAL) {
+            dijkstraBidirectional(startIndex, targetIndex, pred);
+        } else {
+            dijkstraLinearScan(startIndex, targetIndex, pred);
+        }
+
+        CircularArrayList<T> path = buildPath(pred, startIndex, targetIndex);
+        if (key != null) pathCache.put(key, path);
+        return path.iterator();
     }
 
-    @Override
-    public Iterator<T> interatorDFS(T startVertex) {
-        LinkedStack<Integer> traversalStack = new LinkedStack<>();
-        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<>();
+    /**
+     * Returns an iterator over the shortest path between two vertices found with A*.
+     * The heuristic steers the search towards the target, so fewer vertices are settled than with Dijkstra;
+     * the path is a shortest one as long as the heuristic never overestimates the remaining distance.
+     * @param startVertex the starting vertex
+     * @param targetVertex the target vertex
+     * @param heuristic the estimate of the remaining distance to the target
+     * @return an iterator over the vertices of the path, empty if the target cannot be reached
+     */
+    public Iterator<T> interatorAStar(T startVertex, T targetVertex, Heuristic<T> heuristic) {
         int startIndex = getIndex(startVertex);
-        if (!indexIsValid(startIndex)) return resultList.iterator();
-        boolean[] visited = new boolean[numVertices];
+        int targetIndex = getIndex(targetVertex);
+        if (!indexIsValid(startIndex) || !indexIsValid(targetIndex)) {
+            return new ArrayUnorderedList<T>().iterator();
+        }
+
+        int[] pred = new int[numVertices];
+        double[] dist = new double[numVertices];
+        IndexedMinHeap heap = new IndexedMinHeap(numVertices);
+        for (int i = 0; i < numVertices; i++) {
+            pred[i] = -1;
+            dist[i] = Double.POSITIVE_INFINITY;
+        }
+        dist[startIndex] = 0.0;
+        heap.insert(startIndex, heuristic.estimate(startVertex, targetVertex));
 
-        traversalStack.push(startIndex);
-        resultList.addToRear(vertices[startIndex]);
-        visited[startIndex] = true;
+        while (!heap.isEmpty()) {
+            int u = heap.removeMin();
+            if (u == targetIndex) break;
 
-        while (!traversalStack.isEmpty()) {
-            int x = traversalStack.peek();
-            boolean found = false;
-            Iterator<Edge> it = adjList[x].iterator();
-            while (it.hasNext() && !found) {
+            Iterator<Edge> it = adjList[u].iterator();
+            while (it.hasNext()) {
                 Edge e = it.next();
-                int neighborIndex = e.index;
-                if (!visited[neighborIndex]) {
-                    traversalStack.push(neighborIndex);
-                    resultList.addToRear(vertices[neighborIndex]);
-                    visited[neighborIndex] = true;
-                    found = true;
+                int v = e.index;
+                double alt = dist[u] + e.weight;
+                if (alt < dist[v]) {
+                    dist[v] = alt;
+                    pred[v] = u;
+                    heap.insertOrDecrease(v, alt + heuristic.estimate(vertices[v], targetVertex));
                 }
             }
-            if (!found && !traversalStack.isEmpty()) traversalStack.pop();
         }
-        return resultList.iterator();
+
+        return buildPath(pred, startIndex, targetIndex).iterator();
     }
 
-    @Override
-    public Iterator<T> interatorShortestPath(T startVertex, T targetVertex) {
-        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<>();
-        int startIndex = getIndex(startVertex);
-        int targetIndex = getIndex(targetVertex);
-        if (!indexIsValid(startIndex) || !indexIsValid(targetIndex)) {
-            return resultList.iterator();
+    /**
+     * Builds the path from the start to the target by following the predecessors back from the target.
+     * @param pred the predecessor of each vertex on the search tree, or -1 if none
+     * @param startIndex index of the starting vertex
+     * @param targetIndex index of the target vertex
+     * @return the vertices of the path, empty if the target was not reached
+     */
+    private CircularArrayList<T> buildPath(int[] pred, int startIndex, int targetIndex) {
+        CircularArrayList<T> resultList = new CircularArrayList<>();
+        if (pred[targetIndex] == -1 && startIndex != targetIndex) {
+            return resultList;
         }
 
+        int crawl = targetIndex;
+        while (crawl != -1) {
+            resultList.addToFront(vertices[crawl]);
+            crawl = pred[crawl];
+        }
+
+        return resultList;
+    }
+
+    /**
+     * Runs Dijkstra's algorithm selecting the next vertex by scanning every vertex, in O(V^2).
+     * @param startIndex index of the source vertex
+     * @param targetIndex index of the target vertex, where the search stops
+     * @param pred array filled with the predecessor of each settled vertex
+     */
+    private void dijkstraLinearScan(int startIndex, int targetIndex, int[] pred) {
         double[] dist = new double[numVertices];
-        int[] pred = new int[numVertices];
         boolean[] visited = new boolean[numVertices];
 
         for (int i = 0; i < numVertices; i++) {
             dist[i] = Double.POSITIVE_INFINITY;
-            pred[i] = -1;
             visited[i] = false;
         }
         dist[startIndex] = 0.0;
@@ -265,40 +444,798 @@ public class AdjListGraph<T> implements GraphADT<T>, Iterable<T> {
                 }
             }
         }
+    }
 
-        if (pred[targetIndex] == -1 && startIndex != targetIndex) {
-            return resultList.iterator();
+    /**
+     * Runs Dijkstra's algorithm using an indexed binary heap with decrease-key, in O((V + E) log V).
+     * @param startIndex index of the source vertex
+     * @param targetIndex index of the target vertex, where the search stops
+     * @param pred array filled with the predecessor of each settled vertex
+     */
+    private void dijkstraHeap(int startIndex, int targetIndex, int[] pred) {
+        double[] dist = new double[numVertices];
+        boolean[] visited = new boolean[numVertices];
+        IndexedMinHeap heap = new IndexedMinHeap(numVertices);
+
+        for (int i = 0; i < numVertices; i++) dist[i] = Double.POSITIVE_INFINITY;
+        dist[startIndex] = 0.0;
+        heap.insert(startIndex, 0.0);
+
+        while (!heap.isEmpty()) {
+            int u = heap.removeMin();
+            visited[u] = true;
+            if (u == targetIndex) break;
+
+            Iterator<Edge> it = adjList[u].iterator();
+            while (it.hasNext()) {
+                Edge e = it.next();
+                int v = e.index;
+                double alt = dist[u] + e.weight;
+                if (!visited[v] && alt < dist[v]) {
+                    dist[v] = alt;
+                    pred[v] = u;
+                    heap.insertOrDecrease(v, alt);
+                }
+            }
         }
+    }
 
-        ArrayUnorderedList<T> reverse = new ArrayUnorderedList<>();
-        int crawl = targetIndex;
-        while (crawl != -1) {
-            reverse.addToRear(vertices[crawl]);
-            crawl = pred[crawl];
+    /**
+     * Runs Dijkstra's algorithm from the source and from the target at the same time, always advancing the side
+     * with fewer queued vertices, until the smallest keys of both queues add up to the best path seen so far.
+     * Since every edge is stored in both directions, the backward search walks the same edges as the forward one.
+     * @param startIndex index of the source vertex
+     * @param targetIndex index of the target vertex
+     * @param pred array filled so that following it back from the target gives a shortest path to the source
+     */
+    private void dijkstraBidirectional(int startIndex, int targetIndex, int[] pred) {
+        if (startIndex == targetIndex) return;
+
+        double[] distForward = new double[numVertices];
+        double[] distBackward = new double[numVertices];
+        boolean[] settledForward = new boolean[numVertices];
+        boolean[] settledBackward = new boolean[numVertices];
+        int[] succ = new int[numVertices];
+        IndexedMinHeap forward = new IndexedMinHeap(numVertices);
+        IndexedMinHeap backward = new IndexedMinHeap(numVertices);
+
+        for (int i = 0; i < numVertices; i++) {
+            distForward[i] = Double.POSITIVE_INFINITY;
+            distBackward[i] = Double.POSITIVE_INFINITY;
+            succ[i] = -1;
         }
+        distForward[startIndex] = 0.0;
+        distBackward[targetIndex] = 0.0;
+        forward.insert(startIndex, 0.0);
+        backward.insert(targetIndex, 0.0);
+
+        double best = Double.POSITIVE_INFINITY;
+        int meet = -1;
+
+        while (!forward.isEmpty() && !backward.isEmpty()) {
+            if (forward.keyOf(forward.findMin()) + backward.keyOf(backward.findMin()) >= best) break;
 
-        for (T vertex : reverse) {
-            resultList.addToFront(vertex);
+            boolean isForward = forward.size() <= backward.size();
+            IndexedMinHeap heap = isForward ? forward : backward;
+            double[] dist = isForward ? distForward : distBackward;
+            double[] otherDist = isForward ? distBackward : distForward;
+            boolean[] settled = isForward ? settledForward : settledBackward;
+            int[] parent = isForward ? pred : succ;
+
+            int u = heap.removeMin();
+            settled[u] = true;
+
+            Iterator<Edge> it = adjList[u].iterator();
+            while (it.hasNext()) {
+                Edge e = it.next();
+                int v = e.index;
+                double alt = dist[u] + e.weight;
+                if (!settled[v] && alt < dist[v]) {
+                    dist[v] = alt;
+                    parent[v] = u;
+                    heap.insertOrDecrease(v, alt);
+                    if (alt + otherDist[v] < best) {
+                        best = alt + otherDist[v];
+                        meet = v;
+                    }
+                }
+            }
         }
 
-        return resultList.iterator();
+        if (meet == -1) return;
+        int crawl = meet;
+        while (succ[crawl] != -1) {
+            pred[succ[crawl]] = crawl;
+            crawl = succ[crawl];
+        }
     }
 
-    @Override
-    public Iterator<T> iterator() {
-        ArrayUnorderedList<T> vertexList = new ArrayUnorderedList<>();
+    /**
+     * Computes, for every vertex, the distance to the nearest of the given sources and the next vertex on a shortest path towards it.
+     * Since edges are undirected, a single multi-source Dijkstra run from all sources answers the question for every vertex at once.
+     * @param sources the vertices to measure distances to; vertices not in the graph are ignored
+     * @return the resulting distance field
+     */
+    public DistanceField<T> distanceFieldTo(Iterable<T> sources) {
+        double[] dist = new double[numVertices];
+        boolean[] visited = new boolean[numVertices];
+        T[] nextHop = (T[]) new Object[numVertices];
+        IndexedMinHeap heap = new IndexedMinHeap(numVertices);
+
+        for (int i = 0; i < numVertices; i++) dist[i] = Double.POSITIVE_INFINITY;
+        for (T source : sources) {
+            int index = getIndex(source);
+            if (indexIsValid(index) && !heap.contains(index)) {
+                dist[index] = 0.0;
+                heap.insert(index, 0.0);
+            }
+        }
+
+        while (!heap.isEmpty()) {
+            int u = heap.removeMin();
+            visited[u] = true;
+
+            Iterator<Edge> it = adjList[u].iterator();
+            while (it.hasNext()) {
+                Edge e = it.next();
+                int v = e.index;
+                double alt = dist[u] + e.weight;
+                if (!visited[v] && alt < dist[v]) {
+                    dist[v] = alt;
+                    nextHop[v] = vertices[u];
+                    heap.insertOrDecrease(v, alt);
+                }
+            }
+        }
+
+        HashMap<T, Integer> index = new HashMap<>(numVertices);
+        for (int i = numVertices - 1; i >= 0; i--) index.put(vertices[i], i);
+        return new DistanceField<>(index, dist, nextHop);
+    }
+
+    /**
+     * Creates a distance field towards the given sources that only uses unblocked edges
+     * and repairs itself when edges are blocked or unblocked, instead of being rebuilt.
+     * @param sources the vertices to measure distances to; the iterable is read again whenever the field is rebuilt
+     * @return the incremental distance field
+     */
+    public IncrementalDistanceField incrementalDistanceFieldTo(Iterable<T> sources) {
+        return new IncrementalDistanceField(sources);
+    }
+
+    /**
+     * Distance from every vertex to the nearest of a set of sources, moving only along unblocked edges,
+     * kept up to date in the style of D* Lite. Each vertex holds its distance g and a one-step lookahead rhs
+     * computed from its successors; only vertices where the two disagree are queued and processed.
+     * When an edge is blocked or unblocked, only its tail is re-evaluated and the change spreads as far as it
+     * affects distances, so the work of a repair is proportional to the region that changed.
+     * Since the search grows outwards from the sources, a field answers for every starting vertex at once
+     * and moving a walker to another vertex needs no repair.
+     * Changes to the graph structure cause a full rebuild on the next query.
+     */
+    public class IncrementalDistanceField {
+        /** The vertices distances are measured to */
+        private final Iterable<T> sources;
+        /** Distance from each vertex to the nearest source */
+        private double[] g;
+        /** One-step lookahead of each distance, through the best successor */
+        private double[] rhs;
+        /** Whether each vertex is a source */
+        private boolean[] isSource;
+        /** Queue of the vertices whose g and rhs disagree, keyed by the smaller of both */
+        private IndexedMinHeap queue;
+        /** Modification count of the graph the field was built for */
+        private int builtModCount;
+        /** Edge state version the field has caught up with */
+        private int seenVersion;
+        /** Number of vertices processed by the last build or repair */
+        private int lastWork;
+
+        /**
+         * Creates and fully computes the field.
+         * @param sources the vertices to measure distances to
+         */
+        private IncrementalDistanceField(Iterable<T> sources) {
+            this.sources = sources;
+            rebuild();
+        }
+
+        /** Computes the field from scratch for the current graph */
+        private void rebuild() {
+            g = new double[numVertices];
+            rhs = new double[numVertices];
+            isSource = new boolean[numVertices];
+            queue = new IndexedMinHeap(numVertices);
+            for (int i = 0; i < numVertices; i++) {
+                g[i] = Double.POSITIVE_INFINITY;
+                rhs[i] = Double.POSITIVE_INFINITY;
+            }
+            for (T source : sources) {
+                int index = getIndex(source);
+                if (indexIsValid(index) && !isSource[index]) {
+                    isSource[index] = true;
+                    rhs[index] = 0.0;
+                    queue.insert(index, 0.0);
+                }
+            }
+            builtModCount = modCount;
+            seenVersion = edgeStateVersion;
+            computeShortestPaths();
+        }
+
+        /** Brings the field up to date with the graph, repairing it or rebuilding it as needed */
+        private void sync() {
+            if (builtModCount != modCount || edgeStateVersion - seenVersion > EDGE_LOG_SIZE) {
+                rebuild();
+                return;
+            }
+            if (seenVersion == edgeStateVersion) return;
+            for (int version = seenVersion; version < edgeStateVersion; version++) {
+                updateVertex(edgeLogFrom[version % EDGE_LOG_SIZE]);
+            }
+            seenVersion = edgeStateVersion;
+            computeShortestPaths();
+        }
+
+        /**
+         * Recomputes the lookahead of a vertex and queues it if it became inconsistent.
+         * @param v index of the vertex
+         */
+        private void updateVertex(int v) {
+            if (!isSource[v]) rhs[v] = bestThroughSuccessor(v);
+            queue.remove(v);
+            if (g[v] != rhs[v]) queue.insert(v, Math.min(g[v], rhs[v]));
+        }
+
+        /**
+         * Returns the shortest distance to a source through one of the unblocked edges of a vertex.
+         * @param v index of the vertex
+         * @return the best distance through a successor, or positive infinity if there is none
+         */
+        private double bestThroughSuccessor(int v) {
+            double best = Double.POSITIVE_INFINITY;
+            Iterator<Edge> it = adjList[v].iterator();
+            while (it.hasNext()) {
+                Edge e = it.next();
+                if (!e.blocked && e.weight + g[e.index] < best) best = e.weight + g[e.index];
+            }
+            return best;
+        }
+
+        /** Processes the queued vertices until every vertex is consistent */
+        private void computeShortestPaths() {
+            lastWork = 0;
+            while (!queue.isEmpty()) {
+                int u = queue.removeMin();
+                lastWork++;
+                if (g[u] > rhs[u]) {
+                    g[u] = rhs[u];
+                } else {
+                    g[u] = Double.POSITIVE_INFINITY;
+                    updateVertex(u);
+                }
+                Iterator<Edge> it = adjList[u].iterator();
+                while (it.hasNext()) {
+                    int p = it.next().index;
+                    if (p != u) updateVertex(p);
+                }
+            }
+        }
+
+        /**
+         * Returns the distance from the specified vertex to the nearest source through unblocked edges.
+         * @param vertex the vertex to look up
+         * @return the distance, or positive infinity if no source is reachable or the vertex is unknown
+         */
+        public double getDistance(T vertex) {
+            sync();
+            int index = getIndex(vertex);
+            return indexIsValid(index) ? g[index] : Double.POSITIVE_INFINITY;
+        }
+
+        /**
+         * Returns the next vertex to visit from the specified vertex to get closer to the nearest source.
+         * @param vertex the vertex to look up
+         * @return the next vertex, or null if the vertex is a source, cannot reach any source or is unknown
+         */
+        public T getNextHop(T vertex) {
+            sync();
+            int v = getIndex(vertex);
+            if (!indexIsValid(v) || isSource[v] || Double.isInfinite(g[v])) return null;
+            int best = -1;
+            double bestDistance = Double.POSITIVE_INFINITY;
+            Iterator<Edge> it = adjList[v].iterator();
+            while (it.hasNext()) {
+                Edge e = it.next();
+                if (!e.blocked && e.weight + g[e.index] < bestDistance) {
+                    bestDistance = e.weight + g[e.index];
+                    best = e.index;
+                }
+            }
+            return best == -1 ? null : vertices[best];
+        }
+
+        /**
+         * Checks whether a source can be reached from the specified vertex through unblocked edges.
+         * @param vertex the vertex to look up
+         * @return true if some source is reachable from the vertex
+         */
+        public boolean canReach(T vertex) {
+            return !Double.isInfinite(getDistance(vertex));
+        }
+
+        /**
+         * Returns the number of vertices processed by the last build or repair of the field.
+         * @return the work of the last update
+         */
+        public int getLastWork() {
+            return lastWork;
+        }
+    }
+
+    /**
+     * Produces an immutable compressed sparse row copy of this graph, with the same vertex indices and edge order.
+     * Later changes to this graph are not reflected in the copy.
+     * @return the frozen copy of this graph
+     */
+    public CSRGraph<T> freeze() {
+        int[] offsets = new int[numVertices + 1];
+        for (int i = 0; i < numVertices; i++) offsets[i + 1] = offsets[i] + adjList[i].size();
+
+        int[] targets = new int[offsets[numVertices]];
+        double[] weights = new double[offsets[numVertices]];
+        for (int i = 0; i < numVertices; i++) {
+            int e = offsets[i];
+            Iterator<Edge> it = adjList[i].iterator();
+            while (it.hasNext()) {
+                Edge edge = it.next();
+                targets[e] = edge.index;
+                weights[e] = edge.weight;
+                e++;
+            }
+        }
+
+        T[] frozenVertices = (T[]) new Object[numVertices];
+        for (int i = 0; i < numVertices; i++) frozenVertices[i] = vertices[i];
+        return new CSRGraph<>(frozenVertices, offsets, targets, weights);
+    }
+
+    /**
+     * Selects the algorithm used by {@link #interatorShortestPath(Object, Object)} on this graph.
+     * Changing the algorithm discards the cached paths, since among paths of equal cost each one may pick another.
+     * @param mode the shortest path mode to use
+     */
+    public void setShortestPathMode(ShortestPathMode mode) {
+        if (mode == null || mode == shortestPathMode) return;
+        this.shortestPathMode = mode;
+        if (pathCache != null) pathCache.clear();
+    }
+
+    /**
+     * Enables a bounded cache of the paths returned by {@link #interatorShortestPath(Object, Object)}.
+     * Paths are cached by start and target index for the current graph version, so repeated queries between
+     * the same vertices skip the search until a vertex or edge is added or removed or an edge is blocked or opened,
+     * which discards every cached path. When the cache is full the least recently used path is evicted.
+     * @param capacity the maximum number of cached paths, or 0 to disable the cache
+     */
+    public void setPathCacheCapacity(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        pathCache = capacity == 0 ? null : new LRUCache<>(capacity);
+    }
+
+    /**
+     * Returns the maximum number of paths kept by the path cache.
+     * @return the capacity of the path cache, or 0 if it is disabled
+     */
+    public int getPathCacheCapacity() {
+        return pathCache == null ? 0 : pathCache.capacity();
+    }
+
+    /**
+     * Returns the number of shortest path queries answered from the path cache.
+     * @return the number of cache hits, or 0 if the cache is disabled
+     */
+    public long getPathCacheHits() {
+        return pathCache == null ? 0 : pathCache.getHits();
+    }
+
+    /**
+     * Returns the number of shortest path queries that had to run a search while the path cache was enabled.
+     * @return the number of cache misses, or 0 if the cache is disabled
+     */
+    public long getPathCacheMisses() {
+        return pathCache == null ? 0 : pathCache.getMisses();
+    }
+
+    /**
+     * Opens or closes the edges leading from one vertex to another, in that direction only.
+     * Blocked edges are still part of the graph for every other operation, but are skipped by
+     * {@link #isReachableOpen(Object, Object)} and {@link #interatorOpenShortestPath(Object, Object)}.
+     * The cached reachability sets are updated incrementally: unblocking extends them from the newly opened edge,
+     * while blocking discards only the sets that could have used the edge.
+     * @param from the vertex the edges leave
+     * @param to the vertex the edges lead to
+     * @param blocked true to block the edges, false to unblock them
+     * @return true if the state of some edge changed
+     */
+    public boolean setEdgeBlocked(T from, T to, boolean blocked) {
+        int u = getIndex(from);
+        int v = getIndex(to);
+        if (!indexIsValid(u) || !indexIsValid(v)) return false;
+
+        boolean changed = false;
+        Iterator<Edge> it = adjList[u].iterator();
+        while (it.hasNext()) {
+            Edge e = it.next();
+            if (e.index == v && e.blocked != blocked) {
+                e.blocked = blocked;
+                changed = true;
+            }
+        }
+        if (!changed) return false;
+        edgeLogFrom[edgeStateVersion % EDGE_LOG_SIZE] = u;
+        edgeStateVersion++;
+
+        if (openReachModCount != modCount) return true;
+        Iterator<Integer> sources = openReachCache.keys();
+        ArrayUnorderedList<Integer> stale = new ArrayUnorderedList<>();
+        while (sources.hasNext()) {
+            Integer source = sources.next();
+            boolean[] reach = openReachCache.get(source);
+            if (!reach[u]) continue;
+            if (blocked) stale.addToRear(source);
+            else if (!reach[v]) extendOpenReach(reach, v);
+        }
+        for (Integer source : stale) openReachCache.remove(source);
+        return true;
+    }
+
+    /**
+     * Checks whether the edge from one vertex to another is blocked.
+     * @param from the vertex the edge leaves
+     * @param to the vertex the edge leads to
+     * @return true if there is a blocked edge between the vertices in that direction
+     */
+    public boolean isEdgeBlocked(T from, T to) {
+        int u = getIndex(from);
+        int v = getIndex(to);
+        if (!indexIsValid(u) || !indexIsValid(v)) return false;
+        Iterator<Edge> it = adjList[u].iterator();
+        while (it.hasNext()) {
+            Edge e = it.next();
+            if (e.index == v && e.blocked) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of times the blocked state of an edge has changed, which together with the
+     * modification count identifies a version of the open part of the graph.
+     * @return the edge state version
+     */
+    public int getEdgeStateVersion() {
+        return edgeStateVersion;
+    }
+
+    /**
+     * Checks whether a vertex can be reached from another using only unblocked edges.
+     * The set reachable from each source is cached and kept up to date as edges are blocked and unblocked,
+     * so repeated queries from the same source are answered in constant time until the graph structure changes.
+     * @param from the starting vertex
+     * @param to the target vertex
+     * @return true if there is an open path between the vertices
+     */
+    public boolean isReachableOpen(T from, T to) {
+        int u = getIndex(from);
+        int v = getIndex(to);
+        if (!indexIsValid(u) || !indexIsValid(v)) return false;
+
+        if (openReachModCount != modCount) {
+            openReachCache.clear();
+            openReachModCount = modCount;
+        }
+        boolean[] reach = openReachCache.get(u);
+        if (reach == null) {
+            reach = new boolean[numVertices];
+            extendOpenReach(reach, u);
+            openReachCache.put(u, reach);
+        }
+        return reach[v];
+    }
+
+    /**
+     * Marks as reachable a vertex and every vertex reachable from it through unblocked edges that is not marked yet.
+     * @param reach the reachable set to extend
+     * @param start the vertex to extend from
+     */
+    private void extendOpenReach(boolean[] reach, int start) {
+        IntQueue queue = new IntQueue();
+        reach[start] = true;
+        queue.enqueue(start);
+        while (!queue.isEmpty()) {
+            int x = queue.dequeue();
+            Iterator<Edge> it = adjList[x].iterator();
+            while (it.hasNext()) {
+                Edge e = it.next();
+                if (!e.blocked && !reach[e.index]) {
+                    reach[e.index] = true;
+                    queue.enqueue(e.index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns an iterator over the shortest path between two vertices that uses only unblocked edges.
+     * @param startVertex the starting vertex
+     * @param targetVertex the target vertex
+     * @return an iterator over the vertices of the path, empty if every path is blocked
+     */
+    public Iterator<T> interatorOpenShortestPath(T startVertex, T targetVertex) {
+        int startIndex = getIndex(startVertex);
+        int targetIndex = getIndex(targetVertex);
+        if (!indexIsValid(startIndex) || !indexIsValid(targetIndex)) {
+            return new ArrayUnorderedList<T>().iterator();
+        }
+
+        int[] pred = new int[numVertices];
+        double[] dist = new double[numVertices];
+        boolean[] visited = new boolean[numVertices];
+        IndexedMinHeap heap = new IndexedMinHeap(numVertices);
         for (int i = 0; i < numVertices; i++) {
-            vertexList.addToRear(vertices[i]);
+            pred[i] = -1;
+            dist[i] = Double.POSITIVE_INFINITY;
         }
-        return vertexList.iterator();
+        dist[startIndex] = 0.0;
+        heap.insert(startIndex, 0.0);
+
+        while (!heap.isEmpty()) {
+            int u = heap.removeMin();
+            visited[u] = true;
+            if (u == targetIndex) break;
+
+            Iterator<Edge> it = adjList[u].iterator();
+            while (it.hasNext()) {
+                Edge e = it.next();
+                if (e.blocked) continue;
+                int v = e.index;
+                double alt = dist[u] + e.weight;
+                if (!visited[v] && alt < dist[v]) {
+                    dist[v] = alt;
+                    pred[v] = u;
+                    heap.insertOrDecrease(v, alt);
+                }
+            }
+        }
+
+        return buildPath(pred, startIndex, targetIndex).iterator();
+    }
+
+    /**
+     * Selects how vertices are removed from this graph.
+     * With {@link RemovalMode#SWAP_WITH_LAST} the last vertex takes the index of the removed one,
+     * so the order of later traversals may differ from the order of insertion.
+     * @param mode the removal mode to use
+     */
+    public void setRemovalMode(RemovalMode mode) {
+        if (mode != null) this.removalMode = mode;
+    }
+
+    /**
+     * Returns how vertices are removed from this graph.
+     * @return the current removal mode
+     */
+    public RemovalMode getRemovalMode() {
+        return removalMode;
+    }
+
+    /**
+     * Returns the algorithm used by {@link #interatorShortestPath(Object, Object)} on this graph.
+     * @return the current shortest path mode
+     */
+    public ShortestPathMode getShortestPathMode() {
+        return shortestPathMode;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new VertexIterator();
     }
 
     @Override
     public boolean isEmpty() { return numVertices == 0; }
 
     @Override
-    public boolean isConnected() { return false; }
+    public boolean isConnected() { return componentCount() <= 1; }
+
+    /**
+     * Rebuilds the connected components from the adjacency lists if a removal left them out of date.
+     * Removals cannot be undone in a union-find, so they only mark the components stale and the cost
+     * of one near-linear rebuild is paid on the next query.
+     */
+    private void refreshComponents() {
+        if (!componentsStale) return;
+        components.clear();
+        for (int i = 0; i < numVertices; i++) components.add();
+        for (int i = 0; i < numVertices; i++) {
+            Iterator<Edge> it = adjList[i].iterator();
+            while (it.hasNext()) components.union(i, it.next().index);
+        }
+        componentsStale = false;
+    }
+
+    /**
+     * Returns the number of connected components of this graph.
+     * @return the number of components, 0 for an empty graph
+     */
+    public int componentCount() {
+        refreshComponents();
+        return components.sets();
+    }
+
+    /**
+     * Returns an identifier of the connected component holding a vertex.
+     * Two vertices have the same identifier exactly when they are connected; identifiers may change when the graph does.
+     * @param vertex the vertex to look up
+     * @return the component identifier, or -1 if the vertex is not in the graph
+     */
+    public int componentOf(T vertex) {
+        int index = getIndex(vertex);
+        if (!indexIsValid(index)) return -1;
+        refreshComponents();
+        return components.find(index);
+    }
+
+    /**
+     * Returns the number of vertices in the connected component holding a vertex.
+     * @param vertex the vertex to look up
+     * @return the size of its component, or 0 if the vertex is not in the graph
+     */
+    public int componentSize(T vertex) {
+        int index = getIndex(vertex);
+        if (!indexIsValid(index)) return 0;
+        refreshComponents();
+        return components.setSize(index);
+    }
+
+    /**
+     * Checks whether there is a path between two vertices, in near-constant time.
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @return true if both vertices are in the graph and in the same component
+     */
+    public boolean areConnected(T vertex1, T vertex2) {
+        int index1 = getIndex(vertex1);
+        int index2 = getIndex(vertex2);
+        if (!indexIsValid(index1) || !indexIsValid(index2)) return false;
+        refreshComponents();
+        return components.connected(index1, index2);
+    }
 
     @Override
     public int size() { return numVertices; }
-}
\ No newline at end of file
+
+    /** A fail-fast iterator that walks the vertices array directly, without copying it. */
+    private class VertexIterator implements Iterator<T> {
+        /** Index of the next vertex to return */
+        private int current = 0;
+        /** Expected modification count for concurrent modification check */
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            if (expectedModCount != modCount) throw new ConcurrentModificationException();
+            return current < numVertices;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return vertices[current++];
+        }
+    }
+
+    /** A fail-fast breadth first iterator that discovers each vertex only when it is requested. */
+    private class BFSIterator implements Iterator<T> {
+        /** Queue of discovered vertices waiting to be returned */
+        private final IntQueue traversalQueue = new IntQueue();
+        /** Vertices already discovered */
+        private final boolean[] visited = new boolean[numVertices];
+        /** Expected modification count for concurrent modification check */
+        private final int expectedModCount = modCount;
+
+        /**
+         * Creates an iterator starting at the given vertex index
+         * @param startIndex index of the starting vertex, or an invalid index for an empty traversal
+         */
+        BFSIterator(int startIndex) {
+            if (indexIsValid(startIndex)) {
+                traversalQueue.enqueue(startIndex);
+                visited[startIndex] = true;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (expectedModCount != modCount) throw new ConcurrentModificationException();
+            return !traversalQueue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            int x = traversalQueue.dequeue();
+            Iterator<Edge> it = adjList[x].iterator();
+            while (it.hasNext()) {
+                int neighborIndex = it.next().index;
+                if (!visited[neighborIndex]) {
+                    traversalQueue.enqueue(neighborIndex);
+                    visited[neighborIndex] = true;
+                }
+            }
+            return vertices[x];
+        }
+    }
+
+    /**
+     * A fail-fast depth first iterator that advances the traversal only when the next vertex is requested.
+     * Each stack frame keeps its position in the vertex's edge list, so no edge list is scanned twice.
+     */
+    private class DFSIterator implements Iterator<T> {
+        /** Vertices on the current traversal path */
+        private final IntStack pathStack = new IntStack();
+        /** Position of the next edge to inspect for each vertex on the traversal path */
+        private final IntStack edgeStack = new IntStack();
+        /** Vertices already discovered */
+        private final boolean[] visited = new boolean[numVertices];
+        /** Index of the next vertex to return, or -1 if it has not been found yet */
+        private int nextIndex;
+        /** Expected modification count for concurrent modification check */
+        private final int expectedModCount = modCount;
+
+        /**
+         * Creates an iterator starting at the given vertex index
+         * @param startIndex index of the starting vertex, or an invalid index for an empty traversal
+         */
+        DFSIterator(int startIndex) {
+            nextIndex = -1;
+            if (indexIsValid(startIndex)) {
+                nextIndex = startIndex;
+                visited[startIndex] = true;
+            }
+        }
+
+        /** Advances the traversal until an undiscovered vertex is found or the stack is exhausted */
+        private void advance() {
+            while (nextIndex == -1 && !pathStack.isEmpty()) {
+                ArrayUnorderedList<Edge> edges = adjList[pathStack.peek()];
+                int e = edgeStack.pop();
+                while (e < edges.size() && visited[edges.get(e).index]) e++;
+                if (e < edges.size()) {
+                    nextIndex = edges.get(e).index;
+                    visited[nextIndex] = true;
+                    edgeStack.push(e + 1);
+                } else {
+                    pathStack.pop();
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (expectedModCount != modCount) throw new ConcurrentModificationException();
+            advance();
+            return nextIndex != -1;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            int x = nextIndex;
+            nextIndex = -1;
+            pathStack.push(x);
+            edgeStack.push(0);
+            return vertices[x];
+        }
+    }
+}
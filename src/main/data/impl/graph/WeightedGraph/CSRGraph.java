@@ -0,0 +1,279 @@
+package main.data.impl.graph.WeightedGraph;
+
+import main.data.adt.GraphADT;
+import main.data.impl.heap.IndexedMinHeap;
+import main.data.impl.list.ArrayUnorderedList;
+import main.data.impl.map.HashMap;
+import main.data.impl.queue.IntQueue;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable compressed sparse row (CSR) representation of a weighted graph, obtained from {@link AdjListGraph#freeze()}.
+ * The edges of vertex i are stored in positions offsets[i] to offsets[i + 1] - 1 of the targets and weights arrays,
+ * so the whole topology lives in three primitive arrays instead of one list and one object per edge.
+ * Every operation that would change the graph throws an UnsupportedOperationException.
+ * @param <T> the type of elements held in this graph
+ */
+public class CSRGraph<T> implements GraphADT<T>, Iterable<T> {
+    /** Array of vertices in the graph */
+    private final T[] vertices;
+    /** Index of each vertex in the vertices array */
+    private final HashMap<T, Integer> vertexIndex;
+    /** Position of the first edge of each vertex, with one extra entry marking the end of the last vertex */
+    private final int[] offsets;
+    /** Index of the vertex each edge leads to */
+    private final int[] targets;
+    /** Weight of each edge */
+    private final double[] weights;
+
+    /**
+     * Creates a CSR graph from its arrays. The arrays are used as given and must not be changed afterwards.
+     * @param vertices the vertices of the graph, one per index
+     * @param offsets the position of the first edge of each vertex, with length vertices.length + 1
+     * @param targets the index of the vertex each edge leads to
+     * @param weights the weight of each edge
+     */
+    CSRGraph(T[] vertices, int[] offsets, int[] targets, double[] weights) {
+        this.vertices = vertices;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.vertexIndex = new HashMap<>(vertices.length);
+        for (int i = vertices.length - 1; i >= 0; i--) vertexIndex.put(vertices[i], i);
+    }
+
+    @Override
+    public void addVertex(T vertex) {
+        throw new UnsupportedOperationException("Frozen graph");
+    }
+
+    @Override
+    public void removeVertex(T vertex) {
+        throw new UnsupportedOperationException("Frozen graph");
+    }
+
+    @Override
+    public void addEdge(T vertex1, T vertex2, double weight) {
+        throw new UnsupportedOperationException("Frozen graph");
+    }
+
+    @Override
+    public void removeEdge(T vertex1, T vertex2) {
+        throw new UnsupportedOperationException("Frozen graph");
+    }
+
+    /**
+     * Retrieves the index of the specified vertex.
+     * @param vertex the vertex to find
+     * @return the index of the vertex, or -1 if not found
+     */
+    private int getIndex(T vertex) {
+        Integer index = vertexIndex.get(vertex);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the number of edges leaving the specified vertex.
+     * @param vertex the vertex whose degree is requested
+     * @return the degree of the vertex, or 0 if the vertex is not in the graph
+     */
+    public int degree(T vertex) {
+        int index = getIndex(vertex);
+        return index == -1 ? 0 : offsets[index + 1] - offsets[index];
+    }
+
+    /**
+     * Returns the total number of directed edge entries, which is twice the number of undirected edges.
+     * @return the number of edge entries
+     */
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    @Override
+    public Iterator<T> interatorBFS(T startVertex) {
+        return new BFSIterator(getIndex(startVertex));
+    }
+
+    @Override
+    public Iterator<T> interatorDFS(T startVertex) {
+        return new DFSIterator(getIndex(startVertex));
+    }
+
+    @Override
+    public Iterator<T> interatorShortestPath(T startVertex, T targetVertex) {
+        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<>();
+        int startIndex = getIndex(startVertex);
+        int targetIndex = getIndex(targetVertex);
+        if (startIndex == -1 || targetIndex == -1) return resultList.iterator();
+
+        int n = vertices.length;
+        double[] dist = new double[n];
+        int[] pred = new int[n];
+        boolean[] visited = new boolean[n];
+        IndexedMinHeap heap = new IndexedMinHeap(n);
+        for (int i = 0; i < n; i++) {
+            dist[i] = Double.POSITIVE_INFINITY;
+            pred[i] = -1;
+        }
+        dist[startIndex] = 0.0;
+        heap.insert(startIndex, 0.0);
+
+        while (!heap.isEmpty()) {
+            int u = heap.removeMin();
+            visited[u] = true;
+            if (u == targetIndex) break;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                double alt = dist[u] + weights[e];
+                if (!visited[v] && alt < dist[v]) {
+                    dist[v] = alt;
+                    pred[v] = u;
+                    heap.insertOrDecrease(v, alt);
+                }
+            }
+        }
+
+        if (pred[targetIndex] == -1 && startIndex != targetIndex) return resultList.iterator();
+
+        int length = 0;
+        for (int crawl = targetIndex; crawl != -1; crawl = pred[crawl]) length++;
+        int[] path = new int[length];
+        for (int crawl = targetIndex, i = length - 1; crawl != -1; crawl = pred[crawl], i--) path[i] = crawl;
+        for (int i = 0; i < length; i++) resultList.addToRear(vertices[path[i]]);
+        return resultList.iterator();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int current = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current < vertices.length;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return vertices[current++];
+            }
+        };
+    }
+
+    @Override
+    public boolean isEmpty() { return vertices.length == 0; }
+
+    @Override
+    public boolean isConnected() {
+        if (isEmpty()) return true;
+        Iterator<T> it = new BFSIterator(0);
+        int count = 0;
+        while (it.hasNext()) {
+            it.next();
+            count++;
+        }
+        return count == vertices.length;
+    }
+
+    @Override
+    public int size() { return vertices.length; }
+
+    /** A breadth first iterator that discovers each vertex only when it is requested. */
+    private class BFSIterator implements Iterator<T> {
+        /** Queue of discovered vertices waiting to be returned */
+        private final IntQueue traversalQueue = new IntQueue();
+        /** Vertices already discovered */
+        private final boolean[] visited = new boolean[vertices.length];
+
+        /**
+         * Creates an iterator starting at the given vertex index
+         * @param startIndex index of the starting vertex, or -1 for an empty traversal
+         */
+        BFSIterator(int startIndex) {
+            if (startIndex != -1) {
+                traversalQueue.enqueue(startIndex);
+                visited[startIndex] = true;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !traversalQueue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            int x = traversalQueue.dequeue();
+            for (int e = offsets[x]; e < offsets[x + 1]; e++) {
+                int v = targets[e];
+                if (!visited[v]) {
+                    traversalQueue.enqueue(v);
+                    visited[v] = true;
+                }
+            }
+            return vertices[x];
+        }
+    }
+
+    /** A depth first iterator that advances the traversal only when the next vertex is requested. */
+    private class DFSIterator implements Iterator<T> {
+        /** Vertices on the current traversal path */
+        private final int[] stackVertex = new int[vertices.length];
+        /** Next edge position to inspect for each vertex on the traversal path */
+        private final int[] stackEdge = new int[vertices.length];
+        /** Number of vertices on the traversal path */
+        private int top;
+        /** Vertices already discovered */
+        private final boolean[] visited = new boolean[vertices.length];
+        /** Index of the next vertex to return, or -1 if it has not been found yet */
+        private int nextIndex;
+
+        /**
+         * Creates an iterator starting at the given vertex index
+         * @param startIndex index of the starting vertex, or -1 for an empty traversal
+         */
+        DFSIterator(int startIndex) {
+            top = 0;
+            nextIndex = startIndex;
+            if (startIndex != -1) visited[startIndex] = true;
+        }
+
+        /** Advances the traversal until an undiscovered vertex is found or the stack is exhausted */
+        private void advance() {
+            while (nextIndex == -1 && top > 0) {
+                int x = stackVertex[top - 1];
+                int e = stackEdge[top - 1];
+                while (e < offsets[x + 1] && visited[targets[e]]) e++;
+                if (e < offsets[x + 1]) {
+                    nextIndex = targets[e];
+                    visited[nextIndex] = true;
+                    stackEdge[top - 1] = e + 1;
+                } else {
+                    top--;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            advance();
+            return nextIndex != -1;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            int x = nextIndex;
+            nextIndex = -1;
+            stackVertex[top] = x;
+            stackEdge[top] = offsets[x];
+            top++;
+            return vertices[x];
+        }
+    }
+}
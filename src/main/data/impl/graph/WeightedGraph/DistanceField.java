@@ -0,0 +1,59 @@
+package main.data.impl.graph.WeightedGraph;
+
+import main.data.impl.map.HashMap;
+
+/**
+ * Result of a multi-source shortest path search over a weighted graph.
+ * For every vertex it stores the distance to the nearest source and the next vertex on a shortest path towards it,
+ * so both can be read in constant time once the field is built.
+ * @param <T> the type of vertices in the graph
+ */
+public class DistanceField<T> {
+    /** Index of each vertex in the distance and next hop arrays */
+    private final HashMap<T, Integer> index;
+    /** Distance from each vertex to the nearest source */
+    private final double[] distance;
+    /** Next vertex on the way to the nearest source, or null for sources and unreachable vertices */
+    private final T[] nextHop;
+
+    /**
+     * Creates a distance field from the results of a search.
+     * @param index index of each vertex in the arrays
+     * @param distance distance from each vertex to the nearest source
+     * @param nextHop next vertex towards the nearest source
+     */
+    DistanceField(HashMap<T, Integer> index, double[] distance, T[] nextHop) {
+        this.index = index;
+        this.distance = distance;
+        this.nextHop = nextHop;
+    }
+
+    /**
+     * Returns the distance from the specified vertex to the nearest source.
+     * @param vertex the vertex to look up
+     * @return the distance to the nearest source, or positive infinity if none is reachable or the vertex is unknown
+     */
+    public double getDistance(T vertex) {
+        Integer i = index.get(vertex);
+        return i == null ? Double.POSITIVE_INFINITY : distance[i];
+    }
+
+    /**
+     * Returns the next vertex to visit from the specified vertex to get closer to the nearest source.
+     * @param vertex the vertex to look up
+     * @return the next vertex, or null if the vertex is a source, cannot reach any source or is unknown
+     */
+    public T getNextHop(T vertex) {
+        Integer i = index.get(vertex);
+        return i == null ? null : nextHop[i];
+    }
+
+    /**
+     * Checks whether a source can be reached from the specified vertex.
+     * @param vertex the vertex to look up
+     * @return true if some source is reachable from the vertex
+     */
+    public boolean canReach(T vertex) {
+        return !Double.isInfinite(getDistance(vertex));
+    }
+}
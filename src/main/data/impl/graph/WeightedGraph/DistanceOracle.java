@@ -0,0 +1,91 @@
+package main.data.impl.graph.WeightedGraph;
+
+import main.data.impl.list.ArrayUnorderedList;
+import main.data.impl.map.HashMap;
+
+import java.util.Iterator;
+
+/**
+ * All-pairs shortest path table of a weighted graph, obtained from {@link MatrixGraph#allPairsShortestPaths()}.
+ * Distances are read in constant time and paths are rebuilt by following the next-hop table,
+ * in time proportional to their length. The table is a snapshot: later changes to the graph are not reflected.
+ * @param <T> the type of vertices in the graph
+ */
+public class DistanceOracle<T> {
+    /** Vertices of the graph, one per index */
+    private final T[] vertices;
+    /** Index of each vertex in the vertices array */
+    private final HashMap<T, Integer> index;
+    /** Number of vertices, which is also the length of each row of the tables */
+    private final int n;
+    /** Shortest distance from vertex i to vertex j, stored at position i * n + j */
+    private final double[] dist;
+    /** Vertex following i on a shortest path from i to j, stored at position i * n + j, or -1 if there is none */
+    private final int[] next;
+
+    /**
+     * Creates an oracle from the tables computed by an all-pairs search.
+     * @param vertices the vertices of the graph, one per index
+     * @param dist the row-major distance table
+     * @param next the row-major next-hop table
+     */
+    DistanceOracle(T[] vertices, double[] dist, int[] next) {
+        this.vertices = vertices;
+        this.n = vertices.length;
+        this.dist = dist;
+        this.next = next;
+        this.index = new HashMap<>(n);
+        for (int i = n - 1; i >= 0; i--) index.put(vertices[i], i);
+    }
+
+    /**
+     * Retrieves the index of the specified vertex.
+     * @param vertex the vertex to find
+     * @return the index of the vertex, or -1 if not found
+     */
+    private int getIndex(T vertex) {
+        Integer i = index.get(vertex);
+        return i == null ? -1 : i;
+    }
+
+    /**
+     * Returns the length of a shortest path between two vertices.
+     * @param from the starting vertex
+     * @param to the target vertex
+     * @return the shortest distance, or positive infinity if there is no path or a vertex is unknown
+     */
+    public double distance(T from, T to) {
+        int i = getIndex(from);
+        int j = getIndex(to);
+        if (i == -1 || j == -1) return Double.POSITIVE_INFINITY;
+        return dist[i * n + j];
+    }
+
+    /**
+     * Returns an iterator over a shortest path between two vertices, starting with the first one.
+     * @param from the starting vertex
+     * @param to the target vertex
+     * @return an iterator over the vertices of the path, empty if there is no path or a vertex is unknown
+     */
+    public Iterator<T> path(T from, T to) {
+        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<>();
+        int i = getIndex(from);
+        int j = getIndex(to);
+        if (i == -1 || j == -1 || (i != j && next[i * n + j] == -1)) return resultList.iterator();
+
+        resultList.addToRear(vertices[i]);
+        for (int steps = 0; i != j && steps < n; steps++) {
+            i = next[i * n + j];
+            resultList.addToRear(vertices[i]);
+        }
+        return resultList.iterator();
+    }
+
+    /**
+     * Returns the number of vertices covered by this oracle.
+     * @return the number of vertices
+     */
+    public int size() {
+        return n;
+    }
+}
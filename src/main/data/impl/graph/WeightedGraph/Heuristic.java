@@ -0,0 +1,17 @@
+package main.data.impl.graph.WeightedGraph;
+
+/**
+ * Estimate of the remaining cost between two vertices, used to guide an A* search.
+ * To find shortest paths the estimate must be admissible, i.e. never greater than the real shortest distance.
+ * @param <T> the type of vertices in the graph
+ */
+@FunctionalInterface
+public interface Heuristic<T> {
+    /**
+     * Estimates the cost of the shortest path from a vertex to the target.
+     * @param vertex the vertex to estimate from
+     * @param target the target vertex
+     * @return a lower bound of the distance between the vertices
+     */
+    double estimate(T vertex, T target);
+}
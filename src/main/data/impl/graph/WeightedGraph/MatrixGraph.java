@@ -2,13 +2,24 @@ package main.data.impl.graph.WeightedGraph;
 
 import main.data.adt.GraphADT;
 import main.data.impl.list.ArrayUnorderedList;
-import main.data.impl.queue.LinkedQueue;
-import main.data.impl.stack.LinkedStack;
+import main.data.impl.list.CircularArrayList;
+import main.data.impl.map.HashMap;
+import main.data.impl.queue.IntQueue;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Graph represents an adjacency matrix implementation of a graph.
+ * The matrix is stored in a single row-major primitive array whose row length is the capacity of the graph,
+ * so growing copies whole rows with System.arraycopy and removing a vertex moves only the last row and column.
+ * Weights can optionally be kept as floats, halving the memory of the matrix at the cost of precision.
+ * Since the whole matrix must fit in one Java array, the graph holds at most {@link #MAX_CAPACITY} vertices.
  * @param <T> the type of elements stored in the graph
  */
 public class MatrixGraph<T> implements GraphADT<T> {
@@ -16,33 +27,84 @@ public class MatrixGraph<T> implements GraphADT<T> {
     protected final int DEFAULT_CAPACITY = 10;
     /** Number of vertices in the graph */
     protected int numVertices;
-    /** Weight matrix to represent the edges of the graph */
-    protected double[][] weightMatrix;
+    /** Weight of the edge from vertex i to vertex j at position i * capacity + j, or null if float weights are used */
+    protected double[] weightMatrix;
+    /** Weight of the edge from vertex i to vertex j at position i * capacity + j, or null if double weights are used */
+    protected float[] floatWeightMatrix;
     /** Array to hold the vertices of the graph */
     protected T[] vertices;
+    /** Index of each vertex in the vertices array, kept in sync with every insertion and removal */
+    protected HashMap<T, Integer> vertexIndex;
+    /** The modification count for the graph */
+    protected int modCount;
     /** Constant to represent no edge between two vertices */
     protected final double NO_EDGE = Double.POSITIVE_INFINITY;
+    /** Largest number of vertices whose square matrix still fits in a single array, the floor of sqrt(Integer.MAX_VALUE) */
+    public static final int MAX_CAPACITY = 46340;
+    /** Side of the square tiles processed together by the all-pairs search */
+    private static final int FLOYD_BLOCK_SIZE = 64;
 
     /**
      * Creates an empty graph
      */
     public MatrixGraph() {
+        this(false);
+    }
+
+    /**
+     * Creates an empty graph, choosing how the weights are stored
+     * @param floatWeights true to store the weights as floats, false to store them as doubles
+     */
+    public MatrixGraph(boolean floatWeights) {
         numVertices = 0;
-        this.weightMatrix = new double[DEFAULT_CAPACITY][DEFAULT_CAPACITY];
         this.vertices = (T[]) new Object[DEFAULT_CAPACITY];
-        initWeightMatrix(weightMatrix, DEFAULT_CAPACITY);
+        this.vertexIndex = new HashMap<>();
+        if (floatWeights) {
+            this.floatWeightMatrix = new float[DEFAULT_CAPACITY * DEFAULT_CAPACITY];
+            Arrays.fill(floatWeightMatrix, Float.POSITIVE_INFINITY);
+        } else {
+            this.weightMatrix = new double[DEFAULT_CAPACITY * DEFAULT_CAPACITY];
+            Arrays.fill(weightMatrix, NO_EDGE);
+        }
     }
 
     /**
-     * Initializes the weight matrix by setting all weights to NO_EDGE
-     * @param weightMatrix the weight matrix to initialize
-     * @param defaultCapacity the default capacity of the graph
+     * Returns the weight of the edge between two vertices
+     * @param i the first vertex index
+     * @param j the second vertex index
+     * @return the weight of the edge, or NO_EDGE if there is none
      */
-    private void initWeightMatrix(double[][] weightMatrix, int defaultCapacity) {
-        for (int i = 0; i < defaultCapacity; i++) {
-            for (int j = 0; j < defaultCapacity; j++) {
-                weightMatrix[i][j] = NO_EDGE;
-            }
+    private double weight(int i, int j) {
+        int cell = i * vertices.length + j;
+        return floatWeightMatrix != null ? floatWeightMatrix[cell] : weightMatrix[cell];
+    }
+
+    /**
+     * Sets the weight of the edge between two vertices, in one direction only
+     * @param i the first vertex index
+     * @param j the second vertex index
+     * @param weight the weight of the edge, or NO_EDGE to remove it
+     */
+    private void setWeight(int i, int j, double weight) {
+        int cell = i * vertices.length + j;
+        if (floatWeightMatrix != null) {
+            floatWeightMatrix[cell] = (float) weight;
+        } else {
+            weightMatrix[cell] = weight;
+        }
+    }
+
+    /**
+     * Copies one row of the matrix over another
+     * @param from the index of the row to copy
+     * @param to the index of the row to overwrite
+     */
+    private void copyRow(int from, int to) {
+        int capacity = vertices.length;
+        if (floatWeightMatrix != null) {
+            System.arraycopy(floatWeightMatrix, from * capacity, floatWeightMatrix, to * capacity, numVertices);
+        } else {
+            System.arraycopy(weightMatrix, from * capacity, weightMatrix, to * capacity, numVertices);
         }
     }
 
@@ -50,6 +112,7 @@ public class MatrixGraph<T> implements GraphADT<T> {
      * Adds a vertex to the graph, expanding the capacity of the gaph if necessary
      * It also associates an object with the vertex
      * @param vertex the vertex to add to the graph
+     * @throws IllegalStateException if the graph already holds {@link #MAX_CAPACITY} vertices
      */
     @Override
     public void addVertex(T vertex) {
@@ -57,63 +120,88 @@ public class MatrixGraph<T> implements GraphADT<T> {
             expandCapacity();
         }
         vertices[numVertices] = vertex;
-        for (int i = 0; i <= numVertices; i++) {
-            weightMatrix[numVertices][i] = NO_EDGE;
-            weightMatrix[i][numVertices] = NO_EDGE;
+        if (!vertexIndex.containsKey(vertex)) {
+            vertexIndex.put(vertex, numVertices);
         }
         numVertices++;
-        
+        modCount++;
     }
 
     /**
-     * Expands the capacity of the graph
+     * Expands the capacity of the graph, doubling it and copying each row of the matrix in one operation.
+     * The capacity never grows past {@link #MAX_CAPACITY}.
+     * @throws IllegalStateException if the graph already holds {@link #MAX_CAPACITY} vertices
      */
     private void expandCapacity() {
-        int newCapacity = vertices.length * 2;
-        T[] newVertices = (T[]) new Object[newCapacity];
-        for (int i = 0; i < vertices.length; i++) {
-            newVertices[i] = vertices[i];
+        int oldCapacity = vertices.length;
+        if (oldCapacity >= MAX_CAPACITY) {
+            throw new IllegalStateException("Matrix graph cannot hold more than " + MAX_CAPACITY + " vertices");
         }
-        double[][] newAdj = new double[newCapacity][newCapacity];
-        for (int i = 0; i < weightMatrix.length; i++) {
-            for (int j = 0; j < weightMatrix.length; j++) {
-                newAdj[i][j] = weightMatrix[i][j];
+        int newCapacity = (int) Math.min(2L * oldCapacity, MAX_CAPACITY);
+        T[] newVertices = (T[]) new Object[newCapacity];
+        System.arraycopy(vertices, 0, newVertices, 0, oldCapacity);
+
+        if (floatWeightMatrix != null) {
+            float[] newMatrix = new float[newCapacity * newCapacity];
+            Arrays.fill(newMatrix, Float.POSITIVE_INFINITY);
+            for (int i = 0; i < numVertices; i++) {
+                System.arraycopy(floatWeightMatrix, i * oldCapacity, newMatrix, i * newCapacity, numVertices);
+            }
+            floatWeightMatrix = newMatrix;
+        } else {
+            double[] newMatrix = new double[newCapacity * newCapacity];
+            Arrays.fill(newMatrix, NO_EDGE);
+            for (int i = 0; i < numVertices; i++) {
+                System.arraycopy(weightMatrix, i * oldCapacity, newMatrix, i * newCapacity, numVertices);
             }
+            weightMatrix = newMatrix;
         }
         vertices = newVertices;
-        weightMatrix = newAdj;
     }
 
+    /**
+     * Removes a vertex from the graph by moving the last vertex into its place.
+     * Only the last row and column of the matrix are moved, but the index of the last vertex changes,
+     * so the order of later traversals may differ from the order of insertion.
+     * @param vertex the vertex to remove from the graph
+     */
     @Override
     public void removeVertex(T vertex) {
         int idx = getIndex(vertex);
         if (!indexIsValid(idx)) {
             return;
         }
+        int last = numVertices - 1;
+        T moved = vertices[last];
 
-        for (int i = idx; i < numVertices - 1; i++) {
-            vertices[i] = vertices[i + 1];
-        }
-        vertices[numVertices - 1] = null;
-
-        for (int i = idx; i < numVertices - 1; i++) {
-            for (int j = 0; j < numVertices; j++) {
-                weightMatrix[i][j] = weightMatrix[i + 1][j];
-            }
-        }
-
-        for (int j = idx; j < numVertices - 1; j++) {
-            for (int i = 0; i < numVertices - 1; i++) {
-                weightMatrix[i][j] = weightMatrix[i][j + 1];
+        if (idx != last) {
+            vertices[idx] = moved;
+            copyRow(last, idx);
+            for (int i = 0; i < numVertices; i++) {
+                setWeight(i, idx, weight(i, last));
             }
         }
-
+        vertices[last] = null;
         for (int i = 0; i < numVertices; i++) {
-            weightMatrix[numVertices - 1][i] = NO_EDGE;
-            weightMatrix[i][numVertices - 1] = NO_EDGE;
+            setWeight(last, i, NO_EDGE);
+            setWeight(i, last, NO_EDGE);
         }
-
         numVertices--;
+
+        vertexIndex.remove(vertex);
+        if (idx != last) {
+            Integer previous = vertexIndex.get(moved);
+            if (previous != null && (previous == last || idx < previous)) vertexIndex.put(moved, idx);
+        }
+        if (!vertexIndex.containsKey(vertex)) {
+            for (int i = 0; i < numVertices; i++) {
+                if (vertices[i] == null ? vertex == null : vertices[i].equals(vertex)) {
+                    vertexIndex.put(vertex, i);
+                    break;
+                }
+            }
+        }
+        modCount++;
     }
 
     /**
@@ -133,16 +221,8 @@ public class MatrixGraph<T> implements GraphADT<T> {
      * @return the index of the given vertex, or -1 if the vertex is not found
      */
     private int getIndex(T vertex1) {
-        for (int i = 0; i < numVertices; i++) {
-            if (vertices[i] == null) {
-                if (vertex1 == null) {
-                    return i;
-                }
-            } else if (vertices[i].equals(vertex1)) {
-                return i;
-            }
-        }
-        return -1;
+        Integer index = vertexIndex.get(vertex1);
+        return index == null ? -1 : index;
     }
 
     /**
@@ -153,8 +233,9 @@ public class MatrixGraph<T> implements GraphADT<T> {
      */
     public void addEdge(int index1, int index2, double weight) {
         if (indexIsValid(index1) && indexIsValid(index2)) {
-            weightMatrix[index1][index2] = weight;
-            weightMatrix[index2][index1] = weight;
+            setWeight(index1, index2, weight);
+            setWeight(index2, index1, weight);
+            modCount++;
         }
     }
 
@@ -177,8 +258,9 @@ public class MatrixGraph<T> implements GraphADT<T> {
         int index1 = getIndex(vertex1);
         int index2 = getIndex(vertex2);
         if (indexIsValid(index1) && indexIsValid(index2)) {
-            weightMatrix[index1][index2] = NO_EDGE;
-            weightMatrix[index2][index1] = NO_EDGE;
+            setWeight(index1, index2, NO_EDGE);
+            setWeight(index2, index1, NO_EDGE);
+            modCount++;
         }
     }
 
@@ -189,91 +271,34 @@ public class MatrixGraph<T> implements GraphADT<T> {
      * @return true if there is an edge between the two vertices, false otherwise
      */
     private boolean hasEdge(int i, int j) {
-        return !Double.isInfinite(weightMatrix[i][j]);
+        return !Double.isInfinite(weight(i, j));
     }
 
     /**
-     * Returns an iterator that performs a breadth first search traversal starting at the given vertex
+     * Returns an iterator that performs a breadth first search traversal starting at the given vertex.
+     * Vertices are discovered lazily, as the iterator is advanced.
      * @param startVertex the index to begin the search from
      * @return an iterator that performs a breadth first search traversal
      */
     @Override
     public Iterator<T> interatorBFS(T startVertex) {
-        Integer x;
-        LinkedQueue<Integer> traversalQueue = new LinkedQueue<Integer>();
-        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<T>();
-
-        int startIndex = getIndex(startVertex);
-        if (!indexIsValid(startIndex)) {
-            return resultList.iterator();
-        }
-        boolean[] visited = new boolean[numVertices];
-        
-        traversalQueue.enqueue(startIndex);
-        visited[startIndex] = true;
-        
-        while (!traversalQueue.isEmpty()) {
-            x = traversalQueue.dequeue();
-            resultList.addToRear(vertices[x]);
-            /**
-             * Find all vertices adjacent to x that have not been visited and enqueue them up
-             */
-            for (int i = 0; i < numVertices; i++) {
-                if (hasEdge(x, i) && !visited[i]) {
-                    traversalQueue.enqueue(i);
-                    visited[i] = true;
-                }
-            }
-        }
-        return resultList.iterator();
+        return new BFSIterator(getIndex(startVertex));
     }
 
     /**
-     * Returns an iterator that performs a depth first search traversal starting at the given vertex
+     * Returns an iterator that performs a depth first search traversal starting at the given vertex.
+     * Vertices are discovered lazily, as the iterator is advanced.
      * @param startVertex the index to begin the search transversal from
      * @return an iterator that performs a depth first search traversal
      */
     @Override
     public Iterator<T> interatorDFS(T startVertex) {
-        Integer x;
-        boolean found;
-        LinkedStack<Integer> traversalStack = new LinkedStack<Integer>();
-        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<T>();
-        boolean[] visited = new boolean[numVertices];
-
-        int startIndex = getIndex(startVertex);
-        if(!indexIsValid(startIndex)) {
-            return resultList.iterator();
-        }
-        
-        traversalStack.push(startIndex);
-        resultList.addToRear(vertices[startIndex]);
-        visited[startIndex] = true;
-        
-        while (!traversalStack.isEmpty()) {
-            x = traversalStack.peek();
-            found = false;
-            /**
-             * Find a vertex adjacent to x that has not been visited and push it on the stack
-             */
-            for (int i = 0; i < numVertices && !found; i++) {
-                if (hasEdge(x, i) && !visited[i]) {
-                    traversalStack.push(i);
-                    resultList.addToRear(vertices[i]);
-                    visited[i] = true;
-                    found = true;
-                }
-            }
-            if (!found && !traversalStack.isEmpty()) {
-                traversalStack.pop();
-            }
-        }
-        return resultList.iterator();
+        return new DFSIterator(getIndex(startVertex));
     }
 
     @Override
     public Iterator<T> interatorShortestPath(T startVertex, T targetVertex) {
-        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<T>();
+        CircularArrayList<T> resultList = new CircularArrayList<>();
         int startIndex = getIndex(startVertex);
         int targetIndex = getIndex(targetVertex);
         if (!indexIsValid(startIndex) || !indexIsValid(targetIndex)) {
@@ -310,7 +335,7 @@ public class MatrixGraph<T> implements GraphADT<T> {
 
             for (int v = 0; v < numVertices; v++) {
                 if (hasEdge(u, v) && !visited[v]) {
-                    double alt = dist[u] + weightMatrix[u][v];
+                    double alt = dist[u] + weight(u, v);
                     if (Double.isInfinite(dist[v]) || alt < dist[v]) {
                         dist[v] = alt;
                         pred[v] = u;
@@ -323,18 +348,50 @@ public class MatrixGraph<T> implements GraphADT<T> {
             return resultList.iterator();
         }
 
-        ArrayUnorderedList<T> reverse = new ArrayUnorderedList<T>();
         int crawl = targetIndex;
         while (crawl != -1) {
-            reverse.addToRear(vertices[crawl]);
+            resultList.addToFront(vertices[crawl]);
             crawl = pred[crawl];
         }
 
-        for (T vertex : reverse) {
-            resultList.addToFront(vertex);
+        return resultList.iterator();
+    }
+
+    /**
+     * Computes the shortest distances between every pair of vertices with a blocked Floyd-Warshall,
+     * run in parallel on the common fork-join pool.
+     * The matrix is split into square tiles; for each diagonal tile, the tile itself is solved first,
+     * then the tiles in its row and column in parallel, and finally every remaining tile in parallel.
+     * Each phase only reads tiles that are not written in that phase, so tasks never share data they change.
+     * @return the resulting distance oracle, a snapshot of the current graph
+     */
+    public DistanceOracle<T> allPairsShortestPaths() {
+        int n = numVertices;
+        // n never exceeds MAX_CAPACITY, so n * n fits in an int
+        double[] dist = new double[n * n];
+        int[] next = new int[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i == j) {
+                    dist[i * n + j] = 0.0;
+                    next[i * n + j] = i;
+                } else if (hasEdge(i, j)) {
+                    dist[i * n + j] = weight(i, j);
+                    next[i * n + j] = j;
+                } else {
+                    dist[i * n + j] = NO_EDGE;
+                    next[i * n + j] = -1;
+                }
+            }
         }
 
-        return resultList.iterator();
+        if (n > 0) {
+            ForkJoinPool.commonPool().invoke(new FloydWarshallTask(dist, next, n));
+        }
+
+        T[] snapshot = (T[]) new Object[n];
+        for (int i = 0; i < n; i++) snapshot[i] = vertices[i];
+        return new DistanceOracle<>(snapshot, dist, next);
     }
 
     @Override
@@ -344,11 +401,246 @@ public class MatrixGraph<T> implements GraphADT<T> {
 
     @Override
     public boolean isConnected() {
-        return false;
+        if (isEmpty()) {
+            return true;
+        }
+        Iterator<T> it = new BFSIterator(0);
+        int count = 0;
+        while (it.hasNext()) {
+            it.next();
+            count++;
+        }
+        return count == numVertices;
     }
 
     @Override
     public int size() {
         return numVertices;
     }
+
+    /** Task that runs the three phases of the blocked Floyd-Warshall for every diagonal tile. */
+    private static class FloydWarshallTask extends RecursiveAction {
+        /** Serialization version, required by the serializable task base class */
+        private static final long serialVersionUID = 1L;
+        /** Row-major distance table */
+        private final double[] dist;
+        /** Row-major next-hop table */
+        private final int[] next;
+        /** Number of vertices */
+        private final int n;
+
+        /**
+         * Creates the task over the given tables.
+         * @param dist the row-major distance table
+         * @param next the row-major next-hop table
+         * @param n the number of vertices
+         */
+        FloydWarshallTask(double[] dist, int[] next, int n) {
+            this.dist = dist;
+            this.next = next;
+            this.n = n;
+        }
+
+        @Override
+        protected void compute() {
+            int blocks = (n + FLOYD_BLOCK_SIZE - 1) / FLOYD_BLOCK_SIZE;
+            for (int kb = 0; kb < blocks; kb++) {
+                new TileUpdate(dist, next, n, kb, kb, kb).compute();
+
+                TileUpdate[] cross = new TileUpdate[2 * (blocks - 1)];
+                int count = 0;
+                for (int b = 0; b < blocks; b++) {
+                    if (b == kb) continue;
+                    cross[count++] = new TileUpdate(dist, next, n, kb, b, kb);
+                    cross[count++] = new TileUpdate(dist, next, n, b, kb, kb);
+                }
+                ForkJoinTask.invokeAll(cross);
+
+                TileUpdate[] rest = new TileUpdate[(blocks - 1) * (blocks - 1)];
+                count = 0;
+                for (int ib = 0; ib < blocks; ib++) {
+                    if (ib == kb) continue;
+                    for (int jb = 0; jb < blocks; jb++) {
+                        if (jb == kb) continue;
+                        rest[count++] = new TileUpdate(dist, next, n, ib, jb, kb);
+                    }
+                }
+                ForkJoinTask.invokeAll(rest);
+            }
+        }
+    }
+
+    /** Task that relaxes one tile of the tables through every intermediate vertex of one diagonal tile. */
+    private static class TileUpdate extends RecursiveAction {
+        /** Serialization version, required by the serializable task base class */
+        private static final long serialVersionUID = 1L;
+        /** Row-major distance table */
+        private final double[] dist;
+        /** Row-major next-hop table */
+        private final int[] next;
+        /** Number of vertices */
+        private final int n;
+        /** Tile row of the tile being updated */
+        private final int ib;
+        /** Tile column of the tile being updated */
+        private final int jb;
+        /** Tile holding the intermediate vertices */
+        private final int kb;
+
+        /**
+         * Creates the update of tile (ib, jb) through the vertices of tile kb.
+         * @param dist the row-major distance table
+         * @param next the row-major next-hop table
+         * @param n the number of vertices
+         * @param ib tile row of the tile to update
+         * @param jb tile column of the tile to update
+         * @param kb tile of the intermediate vertices
+         */
+        TileUpdate(double[] dist, int[] next, int n, int ib, int jb, int kb) {
+            this.dist = dist;
+            this.next = next;
+            this.n = n;
+            this.ib = ib;
+            this.jb = jb;
+            this.kb = kb;
+        }
+
+        @Override
+        protected void compute() {
+            int iEnd = Math.min(n, (ib + 1) * FLOYD_BLOCK_SIZE);
+            int jEnd = Math.min(n, (jb + 1) * FLOYD_BLOCK_SIZE);
+            int kEnd = Math.min(n, (kb + 1) * FLOYD_BLOCK_SIZE);
+            for (int k = kb * FLOYD_BLOCK_SIZE; k < kEnd; k++) {
+                int kRow = k * n;
+                for (int i = ib * FLOYD_BLOCK_SIZE; i < iEnd; i++) {
+                    int iRow = i * n;
+                    double dik = dist[iRow + k];
+                    if (Double.isInfinite(dik)) continue;
+                    for (int j = jb * FLOYD_BLOCK_SIZE; j < jEnd; j++) {
+                        double alt = dik + dist[kRow + j];
+                        if (alt < dist[iRow + j]) {
+                            dist[iRow + j] = alt;
+                            next[iRow + j] = next[iRow + k];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /** A fail-fast breadth first iterator that discovers each vertex only when it is requested. */
+    private class BFSIterator implements Iterator<T> {
+        /** Queue of discovered vertices waiting to be returned */
+        private final IntQueue traversalQueue = new IntQueue();
+        /** Vertices already discovered */
+        private final boolean[] visited = new boolean[numVertices];
+        /** Expected modification count for concurrent modification check */
+        private final int expectedModCount = modCount;
+
+        /**
+         * Creates an iterator starting at the given vertex index
+         * @param startIndex index of the starting vertex, or an invalid index for an empty traversal
+         */
+        BFSIterator(int startIndex) {
+            if (indexIsValid(startIndex)) {
+                traversalQueue.enqueue(startIndex);
+                visited[startIndex] = true;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            return !traversalQueue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int x = traversalQueue.dequeue();
+            for (int i = 0; i < numVertices; i++) {
+                if (hasEdge(x, i) && !visited[i]) {
+                    traversalQueue.enqueue(i);
+                    visited[i] = true;
+                }
+            }
+            return vertices[x];
+        }
+    }
+
+    /**
+     * A fail-fast depth first iterator that advances the traversal only when the next vertex is requested.
+     * Each stack frame remembers the next column of its row to inspect, so no row is scanned twice.
+     */
+    private class DFSIterator implements Iterator<T> {
+        /** Vertices on the current traversal path */
+        private final int[] stackVertex = new int[numVertices];
+        /** Next column to inspect for each vertex on the traversal path */
+        private final int[] stackColumn = new int[numVertices];
+        /** Number of vertices on the traversal path */
+        private int top;
+        /** Vertices already discovered */
+        private final boolean[] visited = new boolean[numVertices];
+        /** Index of the next vertex to return, or -1 if it has not been found yet */
+        private int nextIndex;
+        /** Expected modification count for concurrent modification check */
+        private final int expectedModCount = modCount;
+
+        /**
+         * Creates an iterator starting at the given vertex index
+         * @param startIndex index of the starting vertex, or an invalid index for an empty traversal
+         */
+        DFSIterator(int startIndex) {
+            top = 0;
+            nextIndex = -1;
+            if (indexIsValid(startIndex)) {
+                nextIndex = startIndex;
+                visited[startIndex] = true;
+            }
+        }
+
+        /** Advances the traversal until an undiscovered vertex is found or the stack is exhausted */
+        private void advance() {
+            while (nextIndex == -1 && top > 0) {
+                int x = stackVertex[top - 1];
+                int i = stackColumn[top - 1];
+                while (i < numVertices && (!hasEdge(x, i) || visited[i])) {
+                    i++;
+                }
+                if (i < numVertices) {
+                    visited[i] = true;
+                    nextIndex = i;
+                    stackColumn[top - 1] = i + 1;
+                } else {
+                    top--;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            advance();
+            return nextIndex != -1;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int x = nextIndex;
+            nextIndex = -1;
+            stackVertex[top] = x;
+            stackColumn[top] = 0;
+            top++;
+            return vertices[x];
+        }
+    }
 }
@@ -0,0 +1,207 @@
+package main.data.impl.heap;
+
+/**
+ * IndexedMinHeap provides an array implementation of a binary minHeap over integer ids in the range [0, capacity),
+ * each with a double key. Unlike {@link ArrayHeap}, it tracks the position of every id in the heap,
+ * which allows the key of an element to be decreased in O(log n).
+ */
+public class IndexedMinHeap {
+    /** Ids stored in heap order */
+    private final int[] heap;
+    /** Position of each id in the heap array, or -1 if the id is not in the heap */
+    private final int[] position;
+    /** Key of each id */
+    private final double[] keys;
+    /** Number of elements in the heap */
+    private int count;
+
+    /**
+     * Creates an empty heap able to hold the ids 0 to capacity - 1
+     * @param capacity the number of distinct ids the heap can hold
+     */
+    public IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        position = new int[capacity];
+        keys = new double[capacity];
+        for (int i = 0; i < capacity; i++) {
+            position[i] = -1;
+        }
+        count = 0;
+    }
+
+    /**
+     * Returns true if this heap contains no elements
+     * @return true if this heap is empty
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the number of elements in this heap
+     * @return the number of elements in this heap
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns true if the specified id is currently in this heap
+     * @param id the id being sought
+     * @return true if the id is in the heap
+     */
+    public boolean contains(int id) {
+        return position[id] != -1;
+    }
+
+    /**
+     * Returns the key currently associated with the specified id
+     * @param id the id whose key is requested
+     * @return the key of the id
+     */
+    public double keyOf(int id) {
+        return keys[id];
+    }
+
+    /**
+     * Adds the specified id to this heap with the given key
+     * @param id the id to add
+     * @param key the key of the id
+     * @throws IllegalArgumentException if the id is already in the heap
+     */
+    public void insert(int id, double key) {
+        if (contains(id)) {
+            throw new IllegalArgumentException("Id already in heap: " + id);
+        }
+        keys[id] = key;
+        heap[count] = id;
+        position[id] = count;
+        count++;
+        heapifyUp(count - 1);
+    }
+
+    /**
+     * Lowers the key of an id already in this heap. Keys that are not lower than the current one are ignored.
+     * @param id the id whose key is decreased
+     * @param key the new key of the id
+     */
+    public void decreaseKey(int id, double key) {
+        if (!contains(id) || key >= keys[id]) {
+            return;
+        }
+        keys[id] = key;
+        heapifyUp(position[id]);
+    }
+
+    /**
+     * Inserts the id if it is not in the heap, or decreases its key otherwise
+     * @param id the id to insert or update
+     * @param key the key of the id
+     */
+    public void insertOrDecrease(int id, double key) {
+        if (contains(id)) {
+            decreaseKey(id, key);
+        } else {
+            insert(id, key);
+        }
+    }
+
+    /**
+     * Returns the id with the lowest key without removing it
+     * @return the id with the lowest key
+     * @throws IllegalStateException if the heap is empty
+     */
+    public int findMin() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Empty heap");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Removes the id with the lowest key from this heap and returns it
+     * @return the id with the lowest key
+     * @throws IllegalStateException if the heap is empty
+     */
+    public int removeMin() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Empty heap");
+        }
+        int min = heap[0];
+        count--;
+        if (count > 0) {
+            heap[0] = heap[count];
+            position[heap[0]] = 0;
+            heapifyDown(0);
+        }
+        position[min] = -1;
+        return min;
+    }
+
+    /**
+     * Removes the specified id from this heap, if present
+     * @param id the id to remove
+     */
+    public void remove(int id) {
+        if (!contains(id)) {
+            return;
+        }
+        int node = position[id];
+        count--;
+        position[id] = -1;
+        if (node != count) {
+            int moved = heap[count];
+            heap[node] = moved;
+            position[moved] = node;
+            heapifyUp(node);
+            heapifyDown(position[moved]);
+        }
+    }
+
+    /** Removes every element from this heap */
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            position[heap[i]] = -1;
+        }
+        count = 0;
+    }
+
+    /**
+     * Moves the element at the given heap position up until its parent has a lower or equal key
+     * @param node the heap position to start from
+     */
+    private void heapifyUp(int node) {
+        int id = heap[node];
+        double key = keys[id];
+        while (node > 0) {
+            int parent = (node - 1) / 2;
+            if (keys[heap[parent]] <= key) break;
+            heap[node] = heap[parent];
+            position[heap[node]] = node;
+            node = parent;
+        }
+        heap[node] = id;
+        position[id] = node;
+    }
+
+    /**
+     * Moves the element at the given heap position down until both children have a greater or equal key
+     * @param node the heap position to start from
+     */
+    private void heapifyDown(int node) {
+        int id = heap[node];
+        double key = keys[id];
+        while (true) {
+            int left = 2 * node + 1;
+            if (left >= count) break;
+            int right = left + 1;
+            int next = (right < count && keys[heap[right]] < keys[heap[left]]) ? right : left;
+            if (keys[heap[next]] >= key) break;
+            heap[node] = heap[next];
+            position[heap[node]] = node;
+            node = next;
+        }
+        heap[node] = id;
+        position[id] = node;
+    }
+}
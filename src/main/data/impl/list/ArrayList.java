@@ -115,6 +115,19 @@ public class ArrayList<T> implements ListADT<T> {
         return null;
     }
 
+    /**
+     * Returns the element at the specified position in the list.
+     * @param index the position of the element, from 0 to size() - 1
+     * @return the element at the position
+     * @throws IndexOutOfBoundsException if the index is outside the list
+     */
+    public T get(int index) {
+        if (index < 0 || index >= rear) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + rear);
+        }
+        return list[index];
+    }
+
     @Override
     public boolean contains(T target) {
         for (int i = 0; i < rear; i++) {
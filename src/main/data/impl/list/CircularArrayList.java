@@ -0,0 +1,243 @@
+package main.data.impl.list;
+
+import main.data.adt.UnorderedListADT;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Circular array implementation of an unordered list, usable as a double ended queue.
+ * The elements occupy a contiguous run of the array that may wrap around its end, so adding or removing
+ * at either end takes amortized constant time instead of shifting every element as {@link ArrayUnorderedList} does.
+ * The capacity is always a power of two, so wrapping around is a single mask.
+ * @param <T> the type of elements stored in the list
+ */
+public class CircularArrayList<T> implements UnorderedListADT<T> {
+    /** Default capacity of the list */
+    private static final int DEFAULT_CAPACITY = 16;
+    /** Array holding the elements of the list */
+    private T[] list;
+    /** Position of the first element */
+    private int front;
+    /** Number of elements in the list */
+    private int count;
+    /** The modification count for the list */
+    private int modCount;
+
+    /** Creates an empty list with the default capacity. */
+    public CircularArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list able to hold the given number of elements before growing.
+     * @param initialCapacity the expected number of elements
+     */
+    public CircularArrayList(int initialCapacity) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < initialCapacity) {
+            capacity *= 2;
+        }
+        list = (T[]) new Object[capacity];
+        front = 0;
+        count = 0;
+        modCount = 0;
+    }
+
+    /**
+     * Returns the array position of the element at the given position of the list
+     * @param index the position in the list
+     * @return the position in the array
+     */
+    private int slot(int index) {
+        return (front + index) & (list.length - 1);
+    }
+
+    /** Doubles the capacity of the list, moving the elements to the start of the new array */
+    private void expandCapacity() {
+        T[] newList = (T[]) new Object[list.length * 2];
+        int firstPart = Math.min(count, list.length - front);
+        System.arraycopy(list, front, newList, 0, firstPart);
+        System.arraycopy(list, 0, newList, firstPart, count - firstPart);
+        list = newList;
+        front = 0;
+    }
+
+    @Override
+    public void addToFront(T element) {
+        if (count == list.length) {
+            expandCapacity();
+        }
+        front = (front - 1) & (list.length - 1);
+        list[front] = element;
+        count++;
+        modCount++;
+    }
+
+    @Override
+    public void addToRear(T element) {
+        if (count == list.length) {
+            expandCapacity();
+        }
+        list[slot(count)] = element;
+        count++;
+        modCount++;
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        int index = find(target);
+        if (index == -1) {
+            throw new NoSuchElementException("Target element not found");
+        }
+        if (count == list.length) {
+            expandCapacity();
+        }
+        for (int i = count; i > index + 1; i--) {
+            list[slot(i)] = list[slot(i - 1)];
+        }
+        list[slot(index + 1)] = element;
+        count++;
+        modCount++;
+    }
+
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Empty list");
+        }
+        T result = list[front];
+        list[front] = null;
+        front = (front + 1) & (list.length - 1);
+        count--;
+        modCount++;
+        return result;
+    }
+
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Empty list");
+        }
+        int last = slot(count - 1);
+        T result = list[last];
+        list[last] = null;
+        count--;
+        modCount++;
+        return result;
+    }
+
+    @Override
+    public T remove(T element) {
+        int index = find(element);
+        if (index == -1) {
+            throw new NoSuchElementException("Element not found");
+        }
+        T result = list[slot(index)];
+        for (int i = index; i < count - 1; i++) {
+            list[slot(i)] = list[slot(i + 1)];
+        }
+        list[slot(count - 1)] = null;
+        count--;
+        modCount++;
+        return result;
+    }
+
+    /**
+     * Finds the position of the specified element in the list.
+     * @param element the element to find
+     * @return the position of the element, or -1 if not found
+     */
+    public int find(T element) {
+        for (int i = 0; i < count; i++) {
+            T current = list[slot(i)];
+            if (current == null ? element == null : current.equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the element at the specified position in the list.
+     * @param index the position of the element, from 0 to size() - 1
+     * @return the element at the position
+     * @throws IndexOutOfBoundsException if the index is outside the list
+     */
+    public T get(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + count);
+        }
+        return list[slot(index)];
+    }
+
+    @Override
+    public T first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Empty list");
+        }
+        return list[front];
+    }
+
+    @Override
+    public T last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Empty list");
+        }
+        return list[slot(count - 1)];
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return find(target) != -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            /** Position in the list of the next element */
+            private int current = 0;
+            /** Expected modification count for concurrent modification check */
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return current < count;
+            }
+
+            @Override
+            public T next() {
+                if (expectedModCount != modCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return list[slot(current++)];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(list[slot(i)]);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
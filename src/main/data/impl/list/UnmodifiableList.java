@@ -0,0 +1,84 @@
+package main.data.impl.list;
+
+import main.data.adt.ListADT;
+
+import java.util.Iterator;
+
+/**
+ * Read-only view over another list. Query operations are forwarded to the underlying list,
+ * so the view reflects later changes made to it, while every removal throws an exception.
+ * @param <T> the type of elements in the list
+ */
+public class UnmodifiableList<T> implements ListADT<T> {
+    /** The list being viewed */
+    private final ListADT<T> list;
+
+    /**
+     * Creates a read-only view over the specified list.
+     * @param list the list to be viewed
+     */
+    public UnmodifiableList(ListADT<T> list) {
+        this.list = list;
+    }
+
+    @Override
+    public T removeFirst() {
+        throw new UnsupportedOperationException("Read-only list");
+    }
+
+    @Override
+    public T removeLast() {
+        throw new UnsupportedOperationException("Read-only list");
+    }
+
+    @Override
+    public T remove(T element) {
+        throw new UnsupportedOperationException("Read-only list");
+    }
+
+    @Override
+    public T first() {
+        return list.first();
+    }
+
+    @Override
+    public T last() {
+        return list.last();
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return list.contains(target);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<T> it = list.iterator();
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return it.next();
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return list.toString();
+    }
+}
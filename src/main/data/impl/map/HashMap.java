@@ -0,0 +1,260 @@
+package main.data.impl.map;
+
+import main.data.adt.MapADT;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Hash table implementation of a map using separate chaining.
+ * Null keys are supported and are stored in bucket 0.
+ * @param <K> the type of keys held in this map
+ * @param <V> the type of values held in this map
+ */
+public class HashMap<K, V> implements MapADT<K, V> {
+    /** Default number of buckets, always a power of two */
+    private static final int DEFAULT_CAPACITY = 16;
+    /** Maximum ratio between entries and buckets before the table is expanded */
+    private static final double LOAD_FACTOR = 0.75;
+    /** Array of buckets, each holding a chain of entries */
+    private Entry<K, V>[] table;
+    /** Number of mappings in the map */
+    private int count;
+    /** The modification count for the map */
+    private int modCount;
+
+    /** Inner class to represent a key-value pair in a bucket chain */
+    private static class Entry<K, V> {
+        /** Key of the entry */
+        final K key;
+        /** Cached hash of the key */
+        final int hash;
+        /** Value of the entry */
+        V value;
+        /** Next entry in the same bucket */
+        Entry<K, V> next;
+
+        /**
+         * Creates an entry with the specified key, hash, value and successor
+         * @param key the key of the entry
+         * @param hash the hash of the key
+         * @param value the value of the entry
+         * @param next the next entry in the bucket
+         */
+        Entry(K key, int hash, V value, Entry<K, V> next) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /** Creates an empty map with the default capacity. */
+    public HashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map able to hold the expected number of mappings without resizing.
+     * @param expectedSize the number of mappings the map is expected to hold
+     */
+    public HashMap(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity *= 2;
+        }
+        table = (Entry<K, V>[]) new Entry[capacity];
+        count = 0;
+        modCount = 0;
+    }
+
+    /**
+     * Computes the hash of a key, spreading the higher bits into the lower ones
+     * @param key the key to hash
+     * @return the hash of the key
+     */
+    private static int hash(Object key) {
+        if (key == null) return 0;
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Checks whether two keys are equal, accepting null keys
+     * @param a the first key
+     * @param b the second key
+     * @return true if both keys are equal
+     */
+    private static boolean keysEqual(Object a, Object b) {
+        return a == b || (a != null && a.equals(b));
+    }
+
+    /**
+     * Finds the entry for the specified key
+     * @param key the key being sought
+     * @return the entry for the key, or null if not found
+     */
+    private Entry<K, V> findEntry(K key) {
+        int h = hash(key);
+        Entry<K, V> current = table[h & (table.length - 1)];
+        while (current != null) {
+            if (current.hash == h && keysEqual(current.key, key)) {
+                return current;
+            }
+            current = current.next;
+        }
+        return null;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Entry<K, V> existing = findEntry(key);
+        if (existing != null) {
+            V old = existing.value;
+            existing.value = value;
+            return old;
+        }
+
+        if (count + 1 > table.length * LOAD_FACTOR) {
+            expandCapacity();
+        }
+        int h = hash(key);
+        int bucket = h & (table.length - 1);
+        table[bucket] = new Entry<>(key, h, value, table[bucket]);
+        count++;
+        modCount++;
+        return null;
+    }
+
+    /** Doubles the number of buckets and redistributes the existing entries */
+    private void expandCapacity() {
+        Entry<K, V>[] newTable = (Entry<K, V>[]) new Entry[table.length * 2];
+        for (int i = 0; i < table.length; i++) {
+            Entry<K, V> current = table[i];
+            while (current != null) {
+                Entry<K, V> next = current.next;
+                int bucket = current.hash & (newTable.length - 1);
+                current.next = newTable[bucket];
+                newTable[bucket] = current;
+                current = next;
+            }
+        }
+        table = newTable;
+    }
+
+    @Override
+    public V get(K key) {
+        Entry<K, V> entry = findEntry(key);
+        return entry == null ? null : entry.value;
+    }
+
+    @Override
+    public V remove(K key) {
+        int h = hash(key);
+        int bucket = h & (table.length - 1);
+        Entry<K, V> previous = null;
+        Entry<K, V> current = table[bucket];
+        while (current != null) {
+            if (current.hash == h && keysEqual(current.key, key)) {
+                if (previous == null) {
+                    table[bucket] = current.next;
+                } else {
+                    previous.next = current.next;
+                }
+                count--;
+                modCount++;
+                return current.value;
+            }
+            previous = current;
+            current = current.next;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return findEntry(key) != null;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = null;
+        }
+        count = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public Iterator<K> keys() {
+        return new KeyIterator();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        boolean first = true;
+        for (int i = 0; i < table.length; i++) {
+            for (Entry<K, V> current = table[i]; current != null; current = current.next) {
+                if (!first) sb.append(", ");
+                sb.append(current.key).append("=").append(current.value);
+                first = false;
+            }
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /** An iterator over the keys of the map, in bucket order. */
+    private class KeyIterator implements Iterator<K> {
+        /** Index of the bucket holding the next entry */
+        private int bucket = 0;
+        /** Next entry to be returned */
+        private Entry<K, V> nextEntry;
+        /** Expected modification count for concurrent modification check */
+        private final int expectedModCount = modCount;
+
+        /** Positions the iterator on the first entry */
+        KeyIterator() {
+            advanceBucket();
+        }
+
+        /** Moves to the first entry of the next non-empty bucket */
+        private void advanceBucket() {
+            while (nextEntry == null && bucket < table.length) {
+                nextEntry = table[bucket++];
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextEntry != null;
+        }
+
+        @Override
+        public K next() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (nextEntry == null) {
+                throw new NoSuchElementException();
+            }
+            K key = nextEntry.key;
+            nextEntry = nextEntry.next;
+            advanceBucket();
+            return key;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package main.data.impl.map;
+
+import main.data.adt.MapADT;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Map with a fixed maximum size that evicts its least recently used mapping when full.
+ * Mappings are kept in a doubly linked list ordered by last access, indexed by a {@link HashMap},
+ * so lookups, insertions and evictions all run in constant expected time.
+ * Lookups through {@link #get(Object)} are counted as hits or misses.
+ * @param <K> the type of keys held in this cache
+ * @param <V> the type of values held in this cache
+ */
+public class LRUCache<K, V> implements MapADT<K, V> {
+    /** Maximum number of mappings held before the least recently used one is evicted */
+    private final int capacity;
+    /** Node of each key in the access order list */
+    private final HashMap<K, Node<K, V>> nodes;
+    /** Most recently used node */
+    private Node<K, V> head;
+    /** Least recently used node */
+    private Node<K, V> tail;
+    /** Number of lookups that found their key */
+    private long hits;
+    /** Number of lookups that did not find their key */
+    private long misses;
+    /** The modification count for the cache */
+    private int modCount;
+
+    /** Inner class to represent a mapping in the access order list */
+    private static class Node<K, V> {
+        /** Key of the mapping */
+        final K key;
+        /** Value of the mapping */
+        V value;
+        /** Node used more recently than this one */
+        Node<K, V> previous;
+        /** Node used less recently than this one */
+        Node<K, V> next;
+
+        /**
+         * Creates a node with the specified key and value
+         * @param key the key of the mapping
+         * @param value the value of the mapping
+         */
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Creates an empty cache holding at most the given number of mappings.
+     * @param capacity the maximum number of mappings
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public LRUCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.nodes = new HashMap<>(capacity);
+        this.hits = 0;
+        this.misses = 0;
+        this.modCount = 0;
+    }
+
+    /**
+     * Detaches a node from the access order list
+     * @param node the node to detach
+     */
+    private void unlink(Node<K, V> node) {
+        if (node.previous == null) {
+            head = node.next;
+        } else {
+            node.previous.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.previous;
+        } else {
+            node.next.previous = node.previous;
+        }
+        node.previous = null;
+        node.next = null;
+    }
+
+    /**
+     * Inserts a node at the front of the access order list, as the most recently used one
+     * @param node the node to insert
+     */
+    private void linkFirst(Node<K, V> node) {
+        node.next = head;
+        if (head == null) {
+            tail = node;
+        } else {
+            head.previous = node;
+        }
+        head = node;
+    }
+
+    /**
+     * Associates the value with the key and marks the mapping as the most recently used one.
+     * If the cache is full, the least recently used mapping is evicted first.
+     * @param key the key to associate the value with
+     * @param value the value to be stored
+     * @return the previous value associated with the key, or null if there was none
+     */
+    @Override
+    public V put(K key, V value) {
+        Node<K, V> node = nodes.get(key);
+        if (node != null) {
+            V old = node.value;
+            node.value = value;
+            if (node != head) {
+                unlink(node);
+                linkFirst(node);
+                modCount++;
+            }
+            return old;
+        }
+
+        if (nodes.size() >= capacity) {
+            Node<K, V> eldest = tail;
+            unlink(eldest);
+            nodes.remove(eldest.key);
+        }
+        node = new Node<>(key, value);
+        linkFirst(node);
+        nodes.put(key, node);
+        modCount++;
+        return null;
+    }
+
+    /**
+     * Returns the value associated with the key and marks the mapping as the most recently used one.
+     * The lookup is counted as a hit or a miss.
+     * @param key the key being sought in this cache
+     * @return the value associated with the key, or null if the key is not present
+     */
+    @Override
+    public V get(K key) {
+        Node<K, V> node = nodes.get(key);
+        if (node == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        if (node != head) {
+            unlink(node);
+            linkFirst(node);
+            modCount++;
+        }
+        return node.value;
+    }
+
+    @Override
+    public V remove(K key) {
+        Node<K, V> node = nodes.remove(key);
+        if (node == null) {
+            return null;
+        }
+        unlink(node);
+        modCount++;
+        return node.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return nodes.containsKey(key);
+    }
+
+    @Override
+    public void clear() {
+        nodes.clear();
+        head = null;
+        tail = null;
+        modCount++;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Returns the maximum number of mappings this cache holds.
+     * @return the capacity of the cache
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of lookups that found their key.
+     * @return the number of hits
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that did not find their key.
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns an iterator over the keys of this cache, from the most to the least recently used.
+     * @return an iterator over the keys of this cache
+     */
+    @Override
+    public Iterator<K> keys() {
+        return new Iterator<K>() {
+            /** Next node to be returned */
+            private Node<K, V> current = head;
+            /** Expected modification count for concurrent modification check */
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public K next() {
+                if (expectedModCount != modCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                K key = current.key;
+                current = current.next;
+                return key;
+            }
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package main.data.impl.queue;
+
+/**
+ * IntQueue represents a queue of primitive ints stored in a circular array.
+ * Unlike a {@code QueueADT<Integer>}, values are neither boxed nor wrapped in nodes,
+ * so once the array has grown to the largest size needed no further allocation takes place.
+ * The capacity is always a power of two, so wrapping around is a single mask.
+ */
+public class IntQueue {
+    /** Default capacity of the queue */
+    private static final int DEFAULT_CAPACITY = 16;
+    /** Array holding the values of the queue */
+    private int[] queue;
+    /** Position of the front value */
+    private int front;
+    /** Number of values in the queue */
+    private int count;
+
+    /** Creates an empty queue with the default capacity */
+    public IntQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty queue able to hold the given number of values before growing
+     * @param capacity the expected number of values
+     */
+    public IntQueue(int capacity) {
+        int size = DEFAULT_CAPACITY;
+        while (size < capacity) {
+            size *= 2;
+        }
+        queue = new int[size];
+        front = 0;
+        count = 0;
+    }
+
+    /**
+     * Adds the specified value to the rear of the queue, expanding the capacity of the queue if necessary
+     * @param value the value to be added
+     */
+    public void enqueue(int value) {
+        if (count == queue.length) {
+            expandCapacity();
+        }
+        queue[(front + count) & (queue.length - 1)] = value;
+        count++;
+    }
+
+    /**
+     * Removes and returns the value at the front of the queue
+     * @return the value at the front of the queue
+     * @throws IllegalStateException if the queue is empty
+     */
+    public int dequeue() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Empty queue");
+        }
+        int result = queue[front];
+        front = (front + 1) & (queue.length - 1);
+        count--;
+        return result;
+    }
+
+    /**
+     * Returns the value at the front of the queue without removing it
+     * @return the value at the front of the queue
+     * @throws IllegalStateException if the queue is empty
+     */
+    public int first() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Empty queue");
+        }
+        return queue[front];
+    }
+
+    /** Doubles the capacity of the queue, moving the values to the start of the new array */
+    private void expandCapacity() {
+        int[] newQueue = new int[queue.length * 2];
+        int firstPart = queue.length - front;
+        System.arraycopy(queue, front, newQueue, 0, firstPart);
+        System.arraycopy(queue, 0, newQueue, firstPart, front);
+        queue = newQueue;
+        front = 0;
+    }
+
+    /** Removes every value from the queue, keeping its capacity */
+    public void clear() {
+        front = 0;
+        count = 0;
+    }
+
+    /**
+     * Returns true if the queue is empty, false otherwise
+     * @return true if the queue is empty
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the number of values in the queue
+     * @return the number of values in the queue
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns a string representation of the queue, from front to rear
+     * @return a string representation of the queue
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(queue[(front + i) & (queue.length - 1)]);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
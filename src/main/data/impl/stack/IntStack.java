@@ -0,0 +1,87 @@
+package main.data.impl.stack;
+
+/**
+ * IntStack represents a stack of primitive ints stored in an array.
+ * Unlike a {@code StackADT<Integer>}, values are neither boxed nor wrapped in nodes,
+ * so once the array has grown to the largest size needed no further allocation takes place.
+ */
+public class IntStack {
+    /** Default capacity of the stack */
+    private static final int DEFAULT_CAPACITY = 16;
+    /** Array holding the values of the stack, from bottom to top */
+    private int[] stack;
+    /** Number of values in the stack, which is also the next free position */
+    private int top;
+
+    /** Creates an empty stack with the default capacity */
+    public IntStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty stack able to hold the given number of values before growing
+     * @param capacity the expected number of values
+     */
+    public IntStack(int capacity) {
+        stack = new int[Math.max(capacity, 1)];
+        top = 0;
+    }
+
+    /**
+     * Adds the specified value to the top of the stack, expanding the capacity of the stack if necessary
+     * @param value the value to be pushed
+     */
+    public void push(int value) {
+        if (top == stack.length) {
+            int[] newStack = new int[stack.length * 2];
+            System.arraycopy(stack, 0, newStack, 0, top);
+            stack = newStack;
+        }
+        stack[top++] = value;
+    }
+
+    /**
+     * Removes and returns the value at the top of the stack
+     * @return the value at the top of the stack
+     * @throws IllegalStateException if the stack is empty
+     */
+    public int pop() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Empty stack");
+        }
+        return stack[--top];
+    }
+
+    /**
+     * Returns the value at the top of the stack without removing it
+     * @return the value at the top of the stack
+     * @throws IllegalStateException if the stack is empty
+     */
+    public int peek() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Empty stack");
+        }
+        return stack[top - 1];
+    }
+
+    /** Removes every value from the stack, keeping its capacity */
+    public void clear() {
+        top = 0;
+    }
+
+    /**
+     * Returns true if the stack is empty, false otherwise
+     * @return true if the stack is empty
+     */
+    public boolean isEmpty() {
+        return top == 0;
+    }
+
+    /**
+     * Returns the number of values in the stack
+     * @return the number of values in the stack
+     */
+    public int size() {
+        return top;
+    }
+}
@@ -0,0 +1,330 @@
+package main.data.impl.tree;
+
+import main.data.execption.ElementNotFoundExecption;
+
+/**
+ * Self-balancing binary search tree that keeps the heights of the two subtrees of every node within one of each other.
+ * After every insertion or removal the nodes on the affected path are rotated back into balance, so the height of
+ * the tree stays logarithmic and add, remove, find, findMin and findMax run in O(log n) even for sorted input,
+ * which would turn a {@link LinkedBinarySearchTree} into a linked list.
+ * Equal elements are allowed; after rotations they may end up on either side of each other.
+ * @param <T> the type of elements stored in the tree
+ */
+public class AVLTree<T> extends LinkedBinarySearchTree<T> {
+    /** Element removed by the last call to one of the recursive removal methods */
+    private T removed;
+
+    /**
+     * Creates an empty AVL tree
+     */
+    public AVLTree() {
+        super();
+    }
+
+    /**
+     * Creates an AVL tree with the specified element as its root
+     * @param element the element that will be the root of the new tree
+     */
+    public AVLTree(T element) {
+        super();
+        addElement(element);
+    }
+
+    /**
+     * Creates a perfectly balanced AVL tree holding the given elements in O(n), without any rotation.
+     * The middle element of each range becomes the root of the subtree built from that range.
+     * @param sortedElements the elements of the tree, in ascending order
+     * @throws IllegalArgumentException if the elements are not in ascending order
+     */
+    public AVLTree(T[] sortedElements) {
+        super();
+        for (int i = 1; i < sortedElements.length; i++) {
+            if (compare(sortedElements[i - 1], sortedElements[i]) > 0) {
+                throw new IllegalArgumentException("Elements are not sorted at position " + i);
+            }
+        }
+        root = build(sortedElements, 0, sortedElements.length - 1);
+        count = sortedElements.length;
+    }
+
+    /**
+     * Builds a balanced subtree from a range of a sorted array
+     * @param sorted the sorted elements
+     * @param low the first position of the range
+     * @param high the last position of the range
+     * @return the root of the subtree, or null if the range is empty
+     */
+    private AVLTreeNode<T> build(T[] sorted, int low, int high) {
+        if (low > high) {
+            return null;
+        }
+        int mid = (low + high) >>> 1;
+        AVLTreeNode<T> node = new AVLTreeNode<>(sorted[mid]);
+        node.left = build(sorted, low, mid - 1);
+        node.right = build(sorted, mid + 1, high);
+        updateHeight(node);
+        return node;
+    }
+
+    /**
+     * Compares two elements by their natural order
+     * @param a the first element
+     * @param b the second element
+     * @return a negative number, zero or a positive number as the first element is less than, equal to or greater than the second
+     */
+    private int compare(T a, T b) {
+        return ((Comparable<T>) a).compareTo(b);
+    }
+
+    /**
+     * Returns the height of a subtree
+     * @param node the root of the subtree
+     * @return the height of the subtree, or 0 if it is empty
+     */
+    private int height(BinaryTreeNode<T> node) {
+        return node == null ? 0 : ((AVLTreeNode<T>) node).height;
+    }
+
+    /**
+     * Recomputes the height of a node from the heights of its children
+     * @param node the node to update
+     */
+    private void updateHeight(AVLTreeNode<T> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+    }
+
+    /**
+     * Rotates a subtree to the right, lifting its left child
+     * @param node the root of the subtree
+     * @return the new root of the subtree
+     */
+    private AVLTreeNode<T> rotateRight(AVLTreeNode<T> node) {
+        AVLTreeNode<T> pivot = (AVLTreeNode<T>) node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        updateHeight(node);
+        updateHeight(pivot);
+        return pivot;
+    }
+
+    /**
+     * Rotates a subtree to the left, lifting its right child
+     * @param node the root of the subtree
+     * @return the new root of the subtree
+     */
+    private AVLTreeNode<T> rotateLeft(AVLTreeNode<T> node) {
+        AVLTreeNode<T> pivot = (AVLTreeNode<T>) node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        updateHeight(node);
+        updateHeight(pivot);
+        return pivot;
+    }
+
+    /**
+     * Updates the height of a node whose subtrees may have changed height by one and rotates it back into balance
+     * @param node the root of the subtree
+     * @return the new root of the subtree
+     */
+    private AVLTreeNode<T> rebalance(AVLTreeNode<T> node) {
+        updateHeight(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            AVLTreeNode<T> left = (AVLTreeNode<T>) node.left;
+            if (height(left.left) < height(left.right)) {
+                node.left = rotateLeft(left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            AVLTreeNode<T> right = (AVLTreeNode<T>) node.right;
+            if (height(right.right) < height(right.left)) {
+                node.right = rotateRight(right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    /**
+     * Adds the specified element to the tree and rebalances the nodes on the path to it.
+     * Equal elements are added to the right of the ones already in the tree.
+     * @param element the element to be added to the tree
+     */
+    @Override
+    public void addElement(T element) {
+        root = insert((AVLTreeNode<T>) root, new AVLTreeNode<>(element));
+        count++;
+    }
+
+    /**
+     * Inserts a node into a subtree
+     * @param node the root of the subtree
+     * @param newNode the node to insert
+     * @return the new root of the subtree
+     */
+    private AVLTreeNode<T> insert(AVLTreeNode<T> node, AVLTreeNode<T> newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (compare(newNode.element, node.element) < 0) {
+            node.left = insert((AVLTreeNode<T>) node.left, newNode);
+        } else {
+            node.right = insert((AVLTreeNode<T>) node.right, newNode);
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Returns the node holding an element equal to the target, following a single path from the root
+     * @param targetElement the element being sought
+     * @return the node holding the element, or null if not found
+     */
+    private BinaryTreeNode<T> search(T targetElement) {
+        BinaryTreeNode<T> current = root;
+        while (current != null) {
+            int cmp = compare(targetElement, current.element);
+            if (cmp == 0) {
+                return current;
+            }
+            current = cmp < 0 ? current.left : current.right;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean contains(T targetElement) {
+        return search(targetElement) != null;
+    }
+
+    @Override
+    public T find(T targetElement) throws ElementNotFoundExecption {
+        BinaryTreeNode<T> node = search(targetElement);
+        if (node == null) {
+            throw new ElementNotFoundExecption("AVL Tree");
+        }
+        return node.element;
+    }
+
+    /**
+     * Removes one element equal to the target from the tree and rebalances the nodes on the path to it.
+     * @param targetElement the element being sought in the tree
+     * @return the removed element
+     * @throws ElementNotFoundExecption if the element is not found in the tree
+     */
+    @Override
+    public T removeElement(T targetElement) throws ElementNotFoundExecption {
+        removed = null;
+        AVLTreeNode<T> newRoot = remove((AVLTreeNode<T>) root, targetElement);
+        if (removed == null) {
+            throw new ElementNotFoundExecption("AVL Tree");
+        }
+        root = newRoot;
+        count--;
+        T result = removed;
+        removed = null;
+        return result;
+    }
+
+    /**
+     * Removes one node equal to the target from a subtree, recording its element in {@link #removed}
+     * @param node the root of the subtree
+     * @param targetElement the element to remove
+     * @return the new root of the subtree
+     */
+    private AVLTreeNode<T> remove(AVLTreeNode<T> node, T targetElement) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(targetElement, node.element);
+        if (cmp < 0) {
+            node.left = remove((AVLTreeNode<T>) node.left, targetElement);
+        } else if (cmp > 0) {
+            node.right = remove((AVLTreeNode<T>) node.right, targetElement);
+        } else {
+            removed = node.element;
+            if (node.left == null) {
+                return (AVLTreeNode<T>) node.right;
+            }
+            if (node.right == null) {
+                return (AVLTreeNode<T>) node.left;
+            }
+            T target = removed;
+            node.right = removeMin((AVLTreeNode<T>) node.right);
+            node.element = removed;
+            removed = target;
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Removes the smallest node of a subtree, recording its element in {@link #removed}
+     * @param node the root of the subtree, which must not be empty
+     * @return the new root of the subtree
+     */
+    private AVLTreeNode<T> removeMin(AVLTreeNode<T> node) {
+        if (node.left == null) {
+            removed = node.element;
+            return (AVLTreeNode<T>) node.right;
+        }
+        node.left = removeMin((AVLTreeNode<T>) node.left);
+        return rebalance(node);
+    }
+
+    /**
+     * Removes the largest node of a subtree, recording its element in {@link #removed}
+     * @param node the root of the subtree, which must not be empty
+     * @return the new root of the subtree
+     */
+    private AVLTreeNode<T> removeMax(AVLTreeNode<T> node) {
+        if (node.right == null) {
+            removed = node.element;
+            return (AVLTreeNode<T>) node.left;
+        }
+        node.right = removeMax((AVLTreeNode<T>) node.right);
+        return rebalance(node);
+    }
+
+    @Override
+    public void removeAllOccurrences(T targetElement) {
+        while (contains(targetElement)) {
+            try {
+                removeElement(targetElement);
+            } catch (ElementNotFoundExecption ex) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public T removeMin() {
+        if (isEmpty()) {
+            return null;
+        }
+        root = removeMin((AVLTreeNode<T>) root);
+        count--;
+        T result = removed;
+        removed = null;
+        return result;
+    }
+
+    @Override
+    public T removeMax() {
+        if (isEmpty()) {
+            return null;
+        }
+        root = removeMax((AVLTreeNode<T>) root);
+        count--;
+        T result = removed;
+        removed = null;
+        return result;
+    }
+
+    /**
+     * Returns the height of the tree, which is at most about 1.44 log2(n + 2).
+     * @return the number of nodes on the longest path from the root to a leaf, or 0 if the tree is empty
+     */
+    public int height() {
+        return height(root);
+    }
+}
@@ -0,0 +1,27 @@
+package main.data.impl.tree;
+
+/**
+ * AVLTreeNode represents a node in an AVL tree, which also records the height of the subtree it roots.
+ * @param <T> the type of element contained in the node
+ */
+public class AVLTreeNode<T> extends BinaryTreeNode<T> {
+    /** Number of nodes on the longest path from this node down to a leaf, counting this node */
+    protected int height;
+
+    /**
+     * Creates a leaf node with the specified data.
+     * @param obj the element that will become a part of the new tree node
+     */
+    protected AVLTreeNode(T obj) {
+        super(obj);
+        height = 1;
+    }
+
+    /**
+     * Returns the height of the subtree rooted at this node.
+     * @return the height of this node
+     */
+    public int getHeight() {
+        return height;
+    }
+}
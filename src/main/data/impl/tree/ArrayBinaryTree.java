@@ -1,10 +1,9 @@
 package main.data.impl.tree;
 
 import main.data.adt.BinaryTreeADT;
-import main.data.adt.QueueADT;
 import main.data.execption.ElementNotFoundExecption;
-import main.data.impl.list.ArrayUnorderedList;
-import main.data.impl.queue.CircularArrayQueue;
+import main.data.impl.queue.IntQueue;
+import main.data.impl.stack.IntStack;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -94,116 +93,193 @@ public class ArrayBinaryTree<T> implements BinaryTreeADT<T> {
     }
 
     /**
-     * Performs an inorder traversal on this binary tree by calling an overloaded, recursive inorder method that starts with the root
+     * Returns an inorder iterator over this binary tree. Elements are produced on demand from an explicit stack,
+     * so no copy of the tree is made. The tree must not be modified while the iterator is in use.
      * @return an iterator over the binary tree
      */
     @Override
     public Iterator<T> iteratorInOrder() {
-        ArrayUnorderedList<T> temp = new ArrayUnorderedList<>();
-        inOrder(0, temp);
-        return temp.iterator();
+        return new InOrderIterator();
     }
 
     /**
-     * Performs a recursive inorder traversal
-     * @param node the node used in the traversal
-     * @param templist the temporary list used in the traversal
+     * Returns a preorder iterator over this binary tree. Elements are produced on demand from an explicit stack,
+     * so no copy of the tree is made. The tree must not be modified while the iterator is in use.
+     * @return an iterator over the binary tree
      */
-    private void inOrder(int node, ArrayUnorderedList<T> templist) {
-        if (node < tree.length) {
-            if (tree[node] != null) {
-                inOrder(node*2 + 1, templist);
-                templist.addToRear(tree[node]);
-                inOrder((node+1)*2, templist);
-            }
-        }
-    }
-
     @Override
     public Iterator<T> iteratorPreOrder() {
-        ArrayUnorderedList<T> temp = new ArrayUnorderedList<>();
-        preorder(0, temp);
-        return temp.iterator();
+        return new PreOrderIterator();
     }
 
     /**
-     * Performs a recursive preorder traversal
-     * @param node the node used in the traversal
-     * @param templist the temporary list used in the traversal
+     * Returns a postorder iterator over this binary tree. Elements are produced on demand from an explicit stack,
+     * so no copy of the tree is made. The tree must not be modified while the iterator is in use.
+     * @return an iterator over the binary tree
      */
-    private void preorder(int node, ArrayUnorderedList<T> templist) {
-        if (node < tree.length) {
-            if (tree[node] != null) {
-                templist.addToRear(tree[node]);
-                preorder(node*2 + 1, templist);
-                preorder((node+1)*2, templist);
-            }
-        }
+    @Override
+    public Iterator<T> iteratorPostOrder() {
+        return new PostOrderIterator();
     }
 
     /**
-     * Performs a postorder traversal on this binary tree by calling an overloaded, recursive postorder method that starts with the root
+     * Returns a level order iterator over this binary tree. Elements are produced on demand from a queue,
+     * so no copy of the tree is made. The tree must not be modified while the iterator is in use.
      * @return an iterator over the binary tree
      */
     @Override
-    public Iterator<T> iteratorPostOrder() {
-        ArrayUnorderedList<T> temp = new ArrayUnorderedList<>();
-        postorder(0, temp);
-        return temp.iterator();
+    public Iterator<T> iteratorLevelOrder() {
+        return new LevelOrderIterator();
     }
 
     /**
-     * Performs a recursive postorder traversal
-     * @param node the node used in the traversal
-     * @param templist the temporary list used in the traversal
+     * Checks whether a position of the array holds a node
+     * @param node the position to check
+     * @return true if the position is inside the array and holds an element
      */
-    private void postorder(int node, ArrayUnorderedList<T> templist) {
-        if (node < tree.length) {
-            if (tree[node] != null) {
-                postorder(node*2 + 1, templist);
-                postorder((node+1)*2, templist);
-                templist.addToRear(tree[node]);
+    private boolean hasNode(int node) {
+        return node < tree.length && tree[node] != null;
+    }
+
+    /** An inorder iterator that keeps the path of nodes whose element has not been returned yet. */
+    private class InOrderIterator implements Iterator<T> {
+        /** Positions of the nodes waiting to be returned, the next one on top */
+        private final IntStack stack = new IntStack();
+
+        /** Positions the iterator on the leftmost node */
+        InOrderIterator() {
+            pushLeftSpine(0);
+        }
+
+        /**
+         * Pushes a node and all its left descendants
+         * @param node the position of the first node
+         */
+        private void pushLeftSpine(int node) {
+            while (hasNode(node)) {
+                stack.push(node);
+                node = node * 2 + 1;
             }
         }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int node = stack.pop();
+            pushLeftSpine((node + 1) * 2);
+            return tree[node];
+        }
     }
 
-    /**
-     * Performs a level order traversal on this binary tree
-     * @return an iterator over the binary tree
-     */
-    @Override
-    public Iterator<T> iteratorLevelOrder() {
-        ArrayUnorderedList<T> temp = new ArrayUnorderedList<>();
-        levelorder(0, temp);
-        return temp.iterator();
+    /** A preorder iterator that keeps the subtrees still to be visited on a stack. */
+    private class PreOrderIterator implements Iterator<T> {
+        /** Positions of the roots of the subtrees still to be visited, the next one on top */
+        private final IntStack stack = new IntStack();
+
+        /** Positions the iterator on the root */
+        PreOrderIterator() {
+            if (hasNode(0)) {
+                stack.push(0);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int node = stack.pop();
+            if (hasNode((node + 1) * 2)) {
+                stack.push((node + 1) * 2);
+            }
+            if (hasNode(node * 2 + 1)) {
+                stack.push(node * 2 + 1);
+            }
+            return tree[node];
+        }
     }
 
-    /**
-     * Performs a level order traversal
-     * @param node the node used in the traversal
-     * @param templist the temporary list used in the traversal
-     */
-    private void levelorder(int node, ArrayUnorderedList<T> templist) {
-        QueueADT<Integer> queue = new CircularArrayQueue<Integer>();
+    /** A postorder iterator that descends to the first leaf of each pending subtree before returning its nodes. */
+    private class PostOrderIterator implements Iterator<T> {
+        /** Positions of the nodes whose subtrees are being visited, the next one to return on top once descended */
+        private final IntStack stack = new IntStack();
+
+        /** Positions the iterator on the first leaf */
+        PostOrderIterator() {
+            descend(0);
+        }
 
-        if (tree[0] != null) {
-            queue.enqueue(0);
+        /**
+         * Pushes the path from a node down to the first node of its subtree in postorder
+         * @param node the position of the root of the subtree
+         */
+        private void descend(int node) {
+            while (hasNode(node)) {
+                stack.push(node);
+                node = hasNode(node * 2 + 1) ? node * 2 + 1 : (node + 1) * 2;
+            }
         }
-        while (!queue.isEmpty()) {
-            int currentNode = queue.dequeue();
-            templist.addToRear(tree[currentNode]);
 
-            int leftChild = currentNode * 2 + 1;
-            int rightChild = (currentNode + 1) * 2;
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
 
-            if (leftChild < tree.length && tree[leftChild] != null) {
-                queue.enqueue(leftChild);
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
             }
-            if (rightChild < tree.length && tree[rightChild] != null) {
-                queue.enqueue(rightChild);
+            int node = stack.pop();
+            if (!stack.isEmpty() && stack.peek() * 2 + 1 == node) {
+                descend(node + 1);
             }
+            return tree[node];
         }
+    }
 
+    /** A level order iterator that queues the children of each node as it is returned. */
+    private class LevelOrderIterator implements Iterator<T> {
+        /** Positions of the nodes discovered but not returned yet */
+        private final IntQueue queue = new IntQueue();
+
+        /** Positions the iterator on the root */
+        LevelOrderIterator() {
+            if (hasNode(0)) {
+                queue.enqueue(0);
+            }
+        }
 
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int node = queue.dequeue();
+            if (hasNode(node * 2 + 1)) {
+                queue.enqueue(node * 2 + 1);
+            }
+            if (hasNode((node + 1) * 2)) {
+                queue.enqueue((node + 1) * 2);
+            }
+            return tree[node];
+        }
     }
 }
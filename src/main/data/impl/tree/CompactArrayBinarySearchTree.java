@@ -0,0 +1,519 @@
+package main.data.impl.tree;
+
+import main.data.adt.BinarySearchTreeADT;
+import main.data.execption.ElementNotFoundExecption;
+import main.data.impl.queue.IntQueue;
+import main.data.impl.stack.IntStack;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Array-based binary search tree that stores its nodes in a dense pool with explicit child indices.
+ * Unlike {@link ArrayBinarySearchTree}, which places the children of position i at 2i + 1 and 2i + 2 and so needs
+ * an array exponential in the height of the tree, the nodes here occupy positions 0 to size() - 1 of three parallel
+ * arrays: the elements and the positions of the left and right children. Memory is therefore linear in the number
+ * of elements whatever the shape of the tree, and a removal moves the last node into the freed position to keep
+ * the pool dense. Equal elements are added to the right.
+ * @param <T> the type of elements stored in the tree
+ */
+public class CompactArrayBinarySearchTree<T> implements BinarySearchTreeADT<T> {
+    /** Marks a missing child or an empty tree */
+    private static final int NONE = -1;
+    /** The default capacity of the tree */
+    private static final int DEFAULT_CAPACITY = 16;
+    /** Element of each node */
+    private T[] elements;
+    /** Position of the left child of each node, or NONE */
+    private int[] left;
+    /** Position of the right child of each node, or NONE */
+    private int[] right;
+    /** Position of the root node, or NONE if the tree is empty */
+    private int root;
+    /** The number of elements in the tree, which is also the number of positions in use */
+    private int count;
+    /** The modification count for the tree */
+    private int modCount;
+
+    /**
+     * Creates an empty binary search tree
+     */
+    public CompactArrayBinarySearchTree() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty binary search tree able to hold the given number of elements before growing
+     * @param initialCapacity the expected number of elements
+     */
+    public CompactArrayBinarySearchTree(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        elements = (T[]) new Object[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+        root = NONE;
+        count = 0;
+        modCount = 0;
+    }
+
+    /**
+     * Compares two elements by their natural order
+     * @param a the first element
+     * @param b the second element
+     * @return a negative number, zero or a positive number as the first element is less than, equal to or greater than the second
+     */
+    private int compare(T a, T b) {
+        return ((Comparable<T>) a).compareTo(b);
+    }
+
+    /** Doubles the capacity of the node arrays */
+    private void expandCapacity() {
+        int capacity = elements.length * 2;
+        T[] newElements = (T[]) new Object[capacity];
+        int[] newLeft = new int[capacity];
+        int[] newRight = new int[capacity];
+        System.arraycopy(elements, 0, newElements, 0, count);
+        System.arraycopy(left, 0, newLeft, 0, count);
+        System.arraycopy(right, 0, newRight, 0, count);
+        elements = newElements;
+        left = newLeft;
+        right = newRight;
+    }
+
+    @Override
+    public void addElement(T element) {
+        if (count == elements.length) {
+            expandCapacity();
+        }
+        int node = count;
+        elements[node] = element;
+        left[node] = NONE;
+        right[node] = NONE;
+
+        if (root == NONE) {
+            root = node;
+        } else {
+            int current = root;
+            while (true) {
+                if (compare(element, elements[current]) < 0) {
+                    if (left[current] == NONE) {
+                        left[current] = node;
+                        break;
+                    }
+                    current = left[current];
+                } else {
+                    if (right[current] == NONE) {
+                        right[current] = node;
+                        break;
+                    }
+                    current = right[current];
+                }
+            }
+        }
+        count++;
+        modCount++;
+    }
+
+    /**
+     * Returns the position of the node holding an element equal to the target
+     * @param targetElement the element being sought
+     * @return the position of the node, or NONE if not found
+     */
+    private int search(T targetElement) {
+        int current = root;
+        while (current != NONE) {
+            int cmp = compare(targetElement, elements[current]);
+            if (cmp == 0) {
+                return current;
+            }
+            current = cmp < 0 ? left[current] : right[current];
+        }
+        return NONE;
+    }
+
+    /**
+     * Returns the position of the parent of a node in the tree, by following the search path of its element
+     * @param node the position of a node other than the root
+     * @return the position of the parent node
+     */
+    private int parentOf(int node) {
+        int current = root;
+        while (true) {
+            int next = compare(elements[node], elements[current]) < 0 ? left[current] : right[current];
+            if (next == node) {
+                return current;
+            }
+            current = next;
+        }
+    }
+
+    /**
+     * Replaces the child of a node, or the root when there is no parent
+     * @param parent the position of the parent, or NONE for the root
+     * @param child the position of the current child
+     * @param replacement the position of the new child, or NONE
+     */
+    private void replaceChild(int parent, int child, int replacement) {
+        if (parent == NONE) {
+            root = replacement;
+        } else if (left[parent] == child) {
+            left[parent] = replacement;
+        } else {
+            right[parent] = replacement;
+        }
+    }
+
+    /**
+     * Releases the position of a node already unlinked from the tree by moving the last node of the pool into it
+     * @param node the position to release
+     */
+    private void release(int node) {
+        int last = count - 1;
+        if (node != last) {
+            replaceChild(last == root ? NONE : parentOf(last), last, node);
+            elements[node] = elements[last];
+            left[node] = left[last];
+            right[node] = right[last];
+        }
+        elements[last] = null;
+        count--;
+        modCount++;
+    }
+
+    /**
+     * Unlinks a node that has at most one child, lifting that child into its place, and releases its position
+     * @param node the position of the node
+     * @param parent the position of its parent, or NONE for the root
+     * @return the element of the node
+     */
+    private T unlink(int node, int parent) {
+        T result = elements[node];
+        replaceChild(parent, node, left[node] != NONE ? left[node] : right[node]);
+        release(node);
+        return result;
+    }
+
+    @Override
+    public T removeElement(T targetElement) throws ElementNotFoundExecption {
+        int parent = NONE;
+        int current = root;
+        while (current != NONE) {
+            int cmp = compare(targetElement, elements[current]);
+            if (cmp == 0) {
+                break;
+            }
+            parent = current;
+            current = cmp < 0 ? left[current] : right[current];
+        }
+        if (current == NONE) {
+            throw new ElementNotFoundExecption("Binary Search Tree");
+        }
+
+        if (left[current] == NONE || right[current] == NONE) {
+            return unlink(current, parent);
+        }
+
+        T result = elements[current];
+        int successorParent = current;
+        int successor = right[current];
+        while (left[successor] != NONE) {
+            successorParent = successor;
+            successor = left[successor];
+        }
+        elements[current] = elements[successor];
+        unlink(successor, successorParent);
+        return result;
+    }
+
+    @Override
+    public void removeAllOccurrences(T targetElement) {
+        while (contains(targetElement)) {
+            try {
+                removeElement(targetElement);
+            } catch (ElementNotFoundExecption ex) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public T removeMin() {
+        if (isEmpty()) {
+            return null;
+        }
+        int parent = NONE;
+        int current = root;
+        while (left[current] != NONE) {
+            parent = current;
+            current = left[current];
+        }
+        return unlink(current, parent);
+    }
+
+    @Override
+    public T removeMax() {
+        if (isEmpty()) {
+            return null;
+        }
+        int parent = NONE;
+        int current = root;
+        while (right[current] != NONE) {
+            parent = current;
+            current = right[current];
+        }
+        return unlink(current, parent);
+    }
+
+    @Override
+    public T findMin() {
+        if (isEmpty()) {
+            return null;
+        }
+        int current = root;
+        while (left[current] != NONE) {
+            current = left[current];
+        }
+        return elements[current];
+    }
+
+    @Override
+    public T findMax() {
+        if (isEmpty()) {
+            return null;
+        }
+        int current = root;
+        while (right[current] != NONE) {
+            current = right[current];
+        }
+        return elements[current];
+    }
+
+    @Override
+    public T getRoot() {
+        return root == NONE ? null : elements[root];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the number of nodes the arrays can hold before growing, which never exceeds twice the largest size reached.
+     * @return the capacity of the node arrays
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean contains(T targetElement) {
+        return search(targetElement) != NONE;
+    }
+
+    @Override
+    public T find(T targetElement) throws ElementNotFoundExecption {
+        int node = search(targetElement);
+        if (node == NONE) {
+            throw new ElementNotFoundExecption("Binary Search Tree");
+        }
+        return elements[node];
+    }
+
+    @Override
+    public Iterator<T> iteratorInOrder() {
+        return new InOrderIterator();
+    }
+
+    @Override
+    public Iterator<T> iteratorPreOrder() {
+        return new PreOrderIterator();
+    }
+
+    @Override
+    public Iterator<T> iteratorPostOrder() {
+        return new PostOrderIterator();
+    }
+
+    @Override
+    public Iterator<T> iteratorLevelOrder() {
+        return new LevelOrderIterator();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        buildString(root, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Helper method to build the string representation of the tree
+     * @param node the position of the current node
+     * @param sb the StringBuilder to append to
+     */
+    private void buildString(int node, StringBuilder sb) {
+        if (node == NONE) {
+            return;
+        }
+        sb.append(elements[node]);
+        if (left[node] == NONE && right[node] == NONE) {
+            return;
+        }
+        sb.append(" (");
+        if (left[node] != NONE) {
+            buildString(left[node], sb);
+            if (right[node] != NONE) sb.append(", ");
+        }
+        buildString(right[node], sb);
+        sb.append(")");
+    }
+
+    /** Base class of the traversal iterators, which checks for concurrent modification. */
+    private abstract class TreeIterator implements Iterator<T> {
+        /** Expected modification count for concurrent modification check */
+        private final int expectedModCount = modCount;
+
+        /**
+         * Returns the position of the next node of the traversal and advances past it
+         * @return the position of the next node
+         */
+        protected abstract int advance();
+
+        @Override
+        public T next() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return elements[advance()];
+        }
+    }
+
+    /** An inorder iterator that keeps the path of nodes whose element has not been returned yet. */
+    private class InOrderIterator extends TreeIterator {
+        /** Nodes waiting to be returned, the next one on top */
+        private final IntStack stack = new IntStack();
+
+        /** Positions the iterator on the smallest element */
+        InOrderIterator() {
+            pushLeftSpine(root);
+        }
+
+        /**
+         * Pushes a node and all its left descendants
+         * @param node the position of the first node, or NONE
+         */
+        private void pushLeftSpine(int node) {
+            while (node != NONE) {
+                stack.push(node);
+                node = left[node];
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        protected int advance() {
+            int node = stack.pop();
+            pushLeftSpine(right[node]);
+            return node;
+        }
+    }
+
+    /** A preorder iterator that keeps the subtrees still to be visited on a stack. */
+    private class PreOrderIterator extends TreeIterator {
+        /** Roots of the subtrees still to be visited, the next one on top */
+        private final IntStack stack = new IntStack();
+
+        /** Positions the iterator on the root */
+        PreOrderIterator() {
+            if (root != NONE) stack.push(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        protected int advance() {
+            int node = stack.pop();
+            if (right[node] != NONE) stack.push(right[node]);
+            if (left[node] != NONE) stack.push(left[node]);
+            return node;
+        }
+    }
+
+    /** A postorder iterator that descends to the first leaf of each pending subtree before returning its nodes. */
+    private class PostOrderIterator extends TreeIterator {
+        /** Nodes whose subtrees are being visited, the next one to return on top once descended */
+        private final IntStack stack = new IntStack();
+
+        /** Positions the iterator on the first leaf */
+        PostOrderIterator() {
+            descend(root);
+        }
+
+        /**
+         * Pushes the path from a node down to the first node of its subtree in postorder
+         * @param node the root of the subtree, or NONE
+         */
+        private void descend(int node) {
+            while (node != NONE) {
+                stack.push(node);
+                node = left[node] != NONE ? left[node] : right[node];
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        protected int advance() {
+            int node = stack.pop();
+            if (!stack.isEmpty()) {
+                int parent = stack.peek();
+                if (left[parent] == node) descend(right[parent]);
+            }
+            return node;
+        }
+    }
+
+    /** A level order iterator that queues the children of each node as it is returned. */
+    private class LevelOrderIterator extends TreeIterator {
+        /** Nodes discovered but not returned yet */
+        private final IntQueue queue = new IntQueue();
+
+        /** Positions the iterator on the root */
+        LevelOrderIterator() {
+            if (root != NONE) queue.enqueue(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        protected int advance() {
+            int node = queue.dequeue();
+            if (left[node] != NONE) queue.enqueue(left[node]);
+            if (right[node] != NONE) queue.enqueue(right[node]);
+            return node;
+        }
+    }
+}
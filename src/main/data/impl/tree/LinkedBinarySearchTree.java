@@ -3,10 +3,6 @@ package main.data.impl.tree;
 import main.data.adt.BinarySearchTreeADT;
 import main.data.execption.ElementNotFoundExecption;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-
 /**
  * Linked implementation of a binary search tree
  * @param <T> the type of elements stored in the tree
@@ -235,25 +231,6 @@ public class LinkedBinarySearchTree<T> extends LinkedBinaryTree<T> implements Bi
         return current.element;
     }
 
-    @Override
-    public Iterator<T> iteratorInOrder() {
-        List<T> list = new ArrayList<>();
-        inOrder(root, list);
-        return list.iterator();
-    }
-
-    /**
-     * Performs a recursive inorder traversal
-     * @param node the node used in the traversal
-     * @param list the temporary list used in the traversal
-     */
-    private void inOrder(BinaryTreeNode<T> node, List<T> list) {
-        if (node == null) return;
-        inOrder(node.left, list);
-        list.add(node.element);
-        inOrder(node.right, list);
-    }
-
     /**
      * Returns a string representation of this binary tree
      * @return a string representation of this binary tree
@@ -3,10 +3,11 @@ package main.data.impl.tree;
 import main.data.adt.BinaryTreeADT;
 import main.data.adt.QueueADT;
 import main.data.execption.ElementNotFoundExecption;
-import main.data.impl.list.ArrayUnorderedList;
 import main.data.impl.queue.CircularArrayQueue;
+import main.data.impl.stack.LinkedStack;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * LinkedBinaryTree implements the BinaryTreeADT interface
@@ -109,96 +110,177 @@ public class LinkedBinaryTree<T> implements BinaryTreeADT<T> {
     }
 
     /**
-     * Performs an inorder traversal on this binary tree by calling an overloaded, recursive inorder method that starts with the root
+     * Returns an inorder iterator over this binary tree. Elements are produced on demand from an explicit stack,
+     * so no copy of the tree is made. The tree must not be modified while the iterator is in use.
      * @return an in order iterator over this binary tree
      */
     @Override
     public Iterator<T> iteratorInOrder() {
-        ArrayUnorderedList<T> tempList = new ArrayUnorderedList<T>();
-        inOrder(root, tempList);
-        return tempList.iterator();
+        return new InOrderIterator();
     }
 
     /**
-     * Performs a recursive inorder traversal
-     * @param node the node to be used as the root for this traversal
-     * @param tempList the temporary list for the traversal
-     */
-    private void inOrder(BinaryTreeNode<T> node, ArrayUnorderedList<T> tempList) {
-        if (node != null) {
-            inOrder(node.left, tempList);
-            tempList.addToRear(node.element);
-            inOrder(node.right, tempList);
-        }
-    }
-
-    /**
-     * Performs a preorder traversal on this binary tree by calling an overloaded, recursive preorder method that starts with the root
+     * Returns a preorder iterator over this binary tree. Elements are produced on demand from an explicit stack,
+     * so no copy of the tree is made. The tree must not be modified while the iterator is in use.
      * @return a pre order iterator over this binary tree
      */
     @Override
     public Iterator<T> iteratorPreOrder() {
-        ArrayUnorderedList<T> tempList = new ArrayUnorderedList<T>();
-        preOrder(root, tempList);
-        return tempList.iterator();
+        return new PreOrderIterator();
     }
 
     /**
-     * Performs a recursive preorder traversal
-     * @param node the node to be used as the root for this traversal
-     * @param tempList the temporary list for the traversal
+     * Returns a postorder iterator over this binary tree. Elements are produced on demand from an explicit stack,
+     * so no copy of the tree is made. The tree must not be modified while the iterator is in use.
+     * @return a post order iterator over this binary tree
      */
-    private void preOrder(BinaryTreeNode<T> node, ArrayUnorderedList<T> tempList) {
-        if (node != null) {
-            tempList.addToRear(node.element);
-            preOrder(node.left, tempList);
-            preOrder(node.right, tempList);
-        }
-    }
-
     @Override
     public Iterator<T> iteratorPostOrder() {
-        ArrayUnorderedList<T> tempList = new ArrayUnorderedList<T>();
-        postOrder(root, tempList);
-        return tempList.iterator();
+        return new PostOrderIterator();
     }
 
     /**
-     * Performs a recursive postorder traversal
-     * @param root the node to be used as the root for this traversal
-     * @param tempList the temporary list for the traversal
+     * Returns a level order iterator over this binary tree. Elements are produced on demand from a queue,
+     * so no copy of the tree is made. The tree must not be modified while the iterator is in use.
+     * @return a level order iterator over this binary tree
      */
-    private void postOrder(BinaryTreeNode<T> root, ArrayUnorderedList<T> tempList) {
-        if (root != null) {
-            postOrder(root.left, tempList);
-            postOrder(root.right, tempList);
-            tempList.addToRear(root.element);
+    @Override
+    public Iterator<T> iteratorLevelOrder() {
+        return new LevelOrderIterator();
+    }
+
+    /** An inorder iterator that keeps the path of nodes whose element has not been returned yet. */
+    private class InOrderIterator implements Iterator<T> {
+        /** Nodes waiting to be returned, the next one on top */
+        private final LinkedStack<BinaryTreeNode<T>> stack = new LinkedStack<>();
+
+        /** Positions the iterator on the leftmost node */
+        InOrderIterator() {
+            pushLeftSpine(root);
+        }
+
+        /**
+         * Pushes a node and all its left descendants
+         * @param node the first node, or null
+         */
+        private void pushLeftSpine(BinaryTreeNode<T> node) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            BinaryTreeNode<T> node = stack.pop();
+            pushLeftSpine(node.right);
+            return node.element;
         }
     }
 
-    @Override
-    public Iterator<T> iteratorLevelOrder() {
-        ArrayUnorderedList<T> tempList = new ArrayUnorderedList<T>();
-        levelOrder(root, tempList);
-        return tempList.iterator();
+    /** A preorder iterator that keeps the subtrees still to be visited on a stack. */
+    private class PreOrderIterator implements Iterator<T> {
+        /** Roots of the subtrees still to be visited, the next one on top */
+        private final LinkedStack<BinaryTreeNode<T>> stack = new LinkedStack<>();
+
+        /** Positions the iterator on the root */
+        PreOrderIterator() {
+            if (root != null)
+                stack.push(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            BinaryTreeNode<T> node = stack.pop();
+            if (node.right != null)
+                stack.push(node.right);
+            if (node.left != null)
+                stack.push(node.left);
+            return node.element;
+        }
     }
 
-    /**
-     * Performs a level order traversal on this binary tree
-     * @param root the node to be used as the root for this traversal
-     * @param tempList the temporary list for the traversal
-     */
-    private void levelOrder(BinaryTreeNode<T> root, ArrayUnorderedList<T> tempList) {
-        QueueADT<BinaryTreeNode<T>> queue = new CircularArrayQueue<BinaryTreeNode<T>>();
-        if (root != null)
-            queue.enqueue(root);
-        while (!queue.isEmpty()) {
+    /** A postorder iterator that descends to the first leaf of each pending subtree before returning its nodes. */
+    private class PostOrderIterator implements Iterator<T> {
+        /** Nodes whose subtrees are being visited, the next one to return on top once descended */
+        private final LinkedStack<BinaryTreeNode<T>> stack = new LinkedStack<>();
+
+        /** Positions the iterator on the first leaf */
+        PostOrderIterator() {
+            descend(root);
+        }
+
+        /**
+         * Pushes the path from a node down to the first node of its subtree in postorder
+         * @param node the root of the subtree, or null
+         */
+        private void descend(BinaryTreeNode<T> node) {
+            while (node != null) {
+                stack.push(node);
+                node = (node.left != null) ? node.left : node.right;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            BinaryTreeNode<T> node = stack.pop();
+            if (!stack.isEmpty() && stack.peek().left == node)
+                descend(stack.peek().right);
+            return node.element;
+        }
+    }
+
+    /** A level order iterator that queues the children of each node as it is returned. */
+    private class LevelOrderIterator implements Iterator<T> {
+        /** Nodes discovered but not returned yet */
+        private final QueueADT<BinaryTreeNode<T>> queue = new CircularArrayQueue<BinaryTreeNode<T>>();
+
+        /** Positions the iterator on the root */
+        LevelOrderIterator() {
+            if (root != null)
+                queue.enqueue(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
             BinaryTreeNode<T> node = queue.dequeue();
-            tempList.addToRear(node.element);
             if (node.left != null)
                 queue.enqueue(node.left);
             if (node.right != null)
                 queue.enqueue(node.right);
+            return node.element;
         }
     }
 }
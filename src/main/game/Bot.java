@@ -1,7 +1,5 @@
 package main.game;
 
-import main.data.impl.graph.WeightedGraph.AdjListGraph;
-import main.data.impl.list.DoubleLinkedUnorderedList;
 import main.model.*;
 
 import java.util.Iterator;
@@ -11,8 +9,18 @@ import java.util.Random;
  * Class representing a Bot player in the maze game.
  */
 public class Bot extends Player {
-    /** Random number generator for the bot's decisions */
-    Random random = new Random();
+    /** Strategy used by the bot to find its way to a treasure */
+    private Navigation navigation = Navigation.DISTANCE_FIELD;
+
+    /** Strategies available to find the way to a treasure */
+    public enum Navigation {
+        /** Reads the next room from the maze's precomputed distance field towards all treasures */
+        DISTANCE_FIELD,
+        /** Runs an A* search guided by the room coordinates towards each treasure on every move */
+        A_STAR,
+        /** Follows the maze's open-hall distance field, which is repaired instead of recomputed when levers open halls */
+        INCREMENTAL
+    }
 
     /**
      * Constructs a Bot with the given name and starting position.
@@ -25,30 +33,24 @@ public class Bot extends Player {
 
     /**
      * Chooses the next room to move to based on the shortest path to the nearest treasure.
-     * It uses the maze's graph structure to find the optimal path, using the shortest path algorithm.
+     * It reads the next room from the maze's precomputed distance field towards the treasure rooms,
+     * falling back to the first neighbor when no treasure can be reached.
      * @param game the current game instance
      * @return the next room to move to
      */
     @Override
     public Room chooseMovement(Game game) {
-        Maze lab = game.getMaze();
-        AdjListGraph<Room> graph = lab.getRooms();
-        DoubleLinkedUnorderedList<Room> treasure = game.getMaze().getTreasures();
         Room current = getCurrentPosition();
-
-        if (treasure != null) {
-            Iterator<Room> itTreasury = treasure.iterator();
-            if (itTreasury.hasNext()) {
-                Room destination = itTreasury.next();
-                Iterator<Room> path = graph.interatorShortestPath(current, destination);
-
-                if (path != null && path.hasNext()) {
-                    path.next();
-                    if (path.hasNext()) {
-                        return path.next();
-                    }
-                }
-            }
+        Room next;
+        if (navigation == Navigation.A_STAR) {
+            next = nextStepByAStar(game.getMaze(), current);
+        } else if (navigation == Navigation.INCREMENTAL) {
+            next = game.getMaze().getOpenTreasureField().getNextHop(current);
+        } else {
+            next = game.getMaze().getTreasureField().getNextHop(current);
+        }
+        if (next != null) {
+            return next;
         }
 
         Iterator<Hall> neighbors = current.getNeighbors().iterator();
@@ -58,6 +60,52 @@ public class Bot extends Player {
         return null;
     }
 
+    /**
+     * Finds the first room of the shortest A* path from the current room to any treasure room.
+     * @param maze the maze being explored
+     * @param current the room the bot is in
+     * @return the next room towards the closest treasure, or null if none can be reached
+     */
+    private Room nextStepByAStar(Maze maze, Room current) {
+        Room best = null;
+        double bestCost = Double.POSITIVE_INFINITY;
+        for (Room treasure : maze.getTreasures()) {
+            if (treasure == current) return null;
+            Iterator<Room> path = maze.findPath(current, treasure);
+            if (!path.hasNext()) continue;
+            Room previous = path.next();
+            Room step = null;
+            double cost = 0;
+            while (path.hasNext()) {
+                Room room = path.next();
+                if (step == null) step = room;
+                cost += previous.getHallTo(room).getSize();
+                previous = room;
+            }
+            if (step != null && cost < bestCost) {
+                bestCost = cost;
+                best = step;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Sets the strategy used by the bot to find its way to a treasure.
+     * @param navigation the navigation strategy
+     */
+    public void setNavigation(Navigation navigation) {
+        if (navigation != null) this.navigation = navigation;
+    }
+
+    /**
+     * Gets the strategy used by the bot to find its way to a treasure.
+     * @return the navigation strategy
+     */
+    public Navigation getNavigation() {
+        return navigation;
+    }
+
     /**
      * Simulates the bot attempting to solve an enigma challenge.
      * He does not know the answer, so he randomly selects one of the possible answers.
@@ -77,11 +125,12 @@ public class Bot extends Player {
         String[] wrongAnswers = enigma.getWrongAnswers();
         int wrongCount = (wrongAnswers != null) ? wrongAnswers.length : 0;
         int size = 1 + wrongCount;
+        Random random = game.getRandom();
         int choice = random.nextInt(size) + 1;
         boolean botChoseCorrectly = (random.nextInt(size) == 0);
 
         this.addActionToHistory("Bot: Attempted ENIGMA in " + roomToUnlock.getName() + ", selected index " + choice + ". Result: " + (botChoseCorrectly ? "SUCCESS" : "FAIL"));
-        System.out.println("-> Bot " + this.getName() + " tried the Enigma. Choose: " + choice + ". " + (botChoseCorrectly ? "Success!" : "Failed."));
+        game.narrate("-> Bot " + this.getName() + " tried the Enigma. Choose: " + choice + ". " + (botChoseCorrectly ? "Success!" : "Failed."));
 
         if (botChoseCorrectly) {
             return true;
@@ -103,20 +152,18 @@ public class Bot extends Player {
         int numberOfLevers = 3;
         if (numberOfLevers < 2) numberOfLevers = 3;
 
-        int playerChoice = random.nextInt(numberOfLevers) + 1;
+        int playerChoice = game.getRandom().nextInt(numberOfLevers) + 1;
 
         if (playerChoice == correctLeverId) {
             roomToUnlock.setChallengeResolved(true);
-            for (Hall hall : roomToUnlock.getHallsToUnlock()) {
-                hall.setBlock(false);
-            }
+            game.getMaze().unlockHalls(roomToUnlock);
 
             this.addActionToHistory("Bot: Solved LEVER challenge in room " + roomToUnlock.getName() + ". Correct lever pulled (" + correctLeverId + "). Halls unlocked.");
-            System.out.println("-> Bot " + this.getName() + " Solved the LEVER challenge! Access unlocked permanently.");
+            game.narrate("-> Bot " + this.getName() + " Solved the LEVER challenge! Access unlocked permanently.");
             return true;
         } else {
             this.addActionToHistory("Bot: Failed LEVER challenge in room " + roomToUnlock.getName() + ". Wrong lever pulled (" + playerChoice + "). Access blocked.");
-            System.out.println("-> Bot " + this.getName() + " pulled the wrong lever! Access blocked this shift.");
+            game.narrate("-> Bot " + this.getName() + " pulled the wrong lever! Access blocked this shift.");
             return false;
         }
     }
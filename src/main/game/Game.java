@@ -28,6 +28,10 @@ public class Game {
     private final DoubleLinkedUnorderedList<Player> allPlayers;
     /** Scanner for user input */
     private final Scanner scanner;
+    /** Whether the game runs without printing its narration */
+    private final boolean headless;
+    /** Maximum number of turns before the game stops without a winner, or 0 for no limit */
+    private int maxShifts;
 
     /** Challenge manager for handling enigmas and challenges */
     private final ChallengeManager challengeManager;
@@ -40,14 +44,31 @@ public class Game {
      * @param scanner the scanner for user input
      */
     public Game(Maze maze, DoubleLinkedUnorderedList<Player> players, LinkedList<EnigmaData> enigmas, Scanner scanner) {
+        this(maze, players, enigmas, scanner, new Random(), false);
+    }
+
+    /**
+     * Constructs a new Game instance that draws every random decision from the given generator.
+     * A headless game prints nothing, which allows bot-only games to be simulated in bulk.
+     * @param maze the maze to be explored
+     * @param players the list of players participating in the game
+     * @param enigmas the list of enigmas available in the game
+     * @param scanner the scanner for user input
+     * @param random the random number generator for the game mechanics
+     * @param headless true to suppress the game narration
+     */
+    public Game(Maze maze, DoubleLinkedUnorderedList<Player> players, LinkedList<EnigmaData> enigmas, Scanner scanner,
+                Random random, boolean headless) {
         this.maze = maze;
         this.queueShifts = new LinkedQueue<>();
         this.allPlayers = players;
         this.currentShift = 1;
-        this.random = new Random();
+        this.random = random;
         this.scanner = scanner;
+        this.headless = headless;
+        this.maxShifts = 0;
 
-        this.challengeManager = new ChallengeManager(enigmas);
+        this.challengeManager = new ChallengeManager(enigmas, random);
 
         for (Player player : players) {
             queueShifts.enqueue(player);
@@ -62,6 +83,48 @@ public class Game {
         return challengeManager;
     }
 
+    /**
+     * Gets the random number generator used for the game mechanics.
+     * @return the random number generator
+     */
+    public Random getRandom() {
+        return random;
+    }
+
+    /**
+     * Gets the current shift/turn number.
+     * @return the current shift number
+     */
+    public int getCurrentShift() {
+        return currentShift;
+    }
+
+    /**
+     * Sets the maximum number of turns before the game stops without a winner.
+     * @param maxShifts the maximum number of turns, or 0 for no limit
+     */
+    public void setMaxShifts(int maxShifts) {
+        this.maxShifts = maxShifts;
+    }
+
+    /**
+     * Checks whether the game runs without printing its narration.
+     * @return true if the game is headless
+     */
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * Prints a line of game narration, unless the game is headless.
+     * @param message the message to print
+     */
+    public void narrate(String message) {
+        if (!headless) {
+            System.out.println(message);
+        }
+    }
+
     /**
      * Gets the list of all players in the game.
      * @return the list of all players
@@ -74,9 +137,9 @@ public class Game {
      * Starts the game loop, processing player turns until a winner is found or no players remain.
      */
     public void start() {
-        System.out.println("--- Game started: Labyrinth of Glory ---\n");
+        narrate("--- Game started: Labyrinth of Glory ---\n");
 
-        while (queueShifts.size() > 0 && winner == null) {
+        while (queueShifts.size() > 0 && winner == null && (maxShifts == 0 || currentShift <= maxShifts)) {
             Player active = queueShifts.dequeue();
 
             displayGameStateNarrative(active);
@@ -106,7 +169,7 @@ public class Game {
         if (winner == null) return;
         this.winner = winner;
         winner.addActionToHistory("WON: entered treasure room " + (winner.getCurrentPosition() != null ? winner.getCurrentPosition().getName() : "<unknown>"));
-        System.out.println("GAME OVER. Winner: " + winner.getName());
+        narrate("GAME OVER. Winner: " + winner.getName());
         while (queueShifts.size() > 0) {
             queueShifts.dequeue();
         }
@@ -121,7 +184,8 @@ public class Game {
         if (active.getBlockedShifts() > 0) {
             active.setBlockedShifts(active.getBlockedShifts() - 1);
             active.addActionToHistory("Blocked. Turn skipped. Remaining: " + active.getBlockedShifts());
-            System.out.println("-> " + active.getName() + " is blocked. Skip the turn. Remainder: " + active.getBlockedShifts());
+            active.incrementTurnsBlocked();
+            narrate("-> " + active.getName() + " is blocked. Skip the turn. Remainder: " + active.getBlockedShifts());
             return true;
         }
         return false;
@@ -141,15 +205,16 @@ public class Game {
         }
 
         if (next.getChallenge() != null && !next.isChallengeResolved()) {
-            System.out.println("\nChallenge: " + next.getChallenge().getType() + " in " + next.getName());
+            narrate("\nChallenge: " + next.getChallenge().getType() + " in " + next.getName());
             boolean solved = next.getChallenge().attemptChallenge(active, this, next, this.scanner);
             if (!solved) {
-                System.out.println(active.getName() + " challenge failed.");
+                active.incrementChallengesFailed();
+                narrate(active.getName() + " challenge failed.");
                 return;
             }
         }
 
-        Hall hall = getHallToDestination(current, next);
+        Hall hall = current.getHallTo(next);
 
         if (hall == null) {
             active.addActionToHistory("Attempted move to " + next.getName() + " but no valid hall found.");
@@ -159,11 +224,12 @@ public class Game {
         boolean canEnter = hall.activateEvent(active, this);
         if (!canEnter) {
             active.addActionToHistory("Movement blocked to " + next.getName());
-            System.out.println("-> " + active.getName() + " could not enter " + next.getName());
+            narrate("-> " + active.getName() + " could not enter " + next.getName());
             return;
         }
 
         active.setCurrentPosition(next);
+        active.incrementMovesMade();
         active.addActionToHistory("Movement -> " + next.getName());
 
         if (!active.getHistoricalActions().isEmpty() && active.getHistoricalActions().last().contains("EXTRA_MOVE")) {
@@ -174,18 +240,20 @@ public class Game {
                     boolean extraSolved = extraNext.getChallenge().attemptChallenge(active, this, extraNext, this.scanner);
 
                     if (!extraSolved) {
-                        System.out.println("-> " + active.getName() + " failed the extra challenge and remains in " + next.getName());
+                        active.incrementChallengesFailed();
+                        narrate("-> " + active.getName() + " failed the extra challenge and remains in " + next.getName());
                         return;
                     }
                 }
 
-                Hall extraHall = getHallToDestination(next, extraNext);
+                Hall extraHall = next.getHallTo(extraNext);
                 if (extraHall != null) {
                     boolean canEnterExtra = extraHall.activateEvent(active, this);
                     if (canEnterExtra) {
                         active.setCurrentPosition(extraNext);
+                        active.incrementMovesMade();
                         active.addActionToHistory("Extra Movement: " + next.getName() + " -> " + extraNext.getName());
-                        System.out.println("-> " + active.getName() + " made an extra move to " + extraNext.getName());
+                        narrate("-> " + active.getName() + " made an extra move to " + extraNext.getName());
                     } else {
                         active.addActionToHistory("Extra movement blocked to " + extraNext.getName());
                     }
@@ -193,7 +261,7 @@ public class Game {
             }
         }
 
-        System.out.println("-> " + active.getName() + " moved to " + next.getName());
+        narrate("-> " + active.getName() + " moved to " + next.getName());
     }
 
     /**
@@ -251,21 +319,6 @@ public class Game {
         return null;
     }
 
-    /**
-     * Retrieves the hall connecting the origin room to the destination room.
-     * @param origin the starting room
-     * @param destination the target room
-     * @return the hall connecting the two rooms, or null if none exists
-     */
-    private Hall getHallToDestination(Room origin, Room destination) {
-        for (Hall hall : origin.getNeighbors()) {
-            if (hall.getDestination().equals(destination)) {
-                return hall;
-            }
-        }
-        return null;
-    }
-
     /**
      * Gets the maze being explored in the game.
      * @return the maze
@@ -289,8 +342,6 @@ public class Game {
         Iterator<Room> roomsIt = maze.getRooms().iterator();
         Room fallback = roomsIt.hasNext() ? roomsIt.next() : null;
 
-        Scanner scanner = new Scanner(System.in);
-
         int roundIndex = 0;
 
         for (Player p : players) {
@@ -377,7 +428,7 @@ public class Game {
             queueShifts.enqueue(p);
 
 
-            System.out.println("Added player: " + p.getName() + " starting at " +
+            narrate("Added player: " + p.getName() + " starting at " +
                     (start != null ? start.getName() : "<none>"));
         }
     }
@@ -394,6 +445,8 @@ public class Game {
      * @param activePlayer the player whose turn it is
      */
     private void displayGameStateNarrative(Player activePlayer) {
+        if (headless) return;
+
         System.out.println("\n==================================================");
         System.out.println("== TURN " + currentShift + " | ACTIVE PLAYER: " + activePlayer.getName() + " ==");
         System.out.println("==================================================");
@@ -17,6 +17,14 @@ public abstract class Player {
     private final DoubleLinkedUnorderedList<String> historicalActions;
     /** The initial position of the player */
     private Room initialPosition;
+    /** The number of moves made by the player */
+    private int movesMade;
+    /** The number of turns the player has skipped while blocked */
+    private int turnsBlocked;
+    /** The number of challenges the player has failed */
+    private int challengesFailed;
+    /** The number of random events triggered by the player */
+    private int eventsTriggered;
 
     /**
      * Constructs a Player with the given name and starting position.
@@ -82,6 +90,42 @@ public abstract class Player {
         return initialPosition;
     }
 
+    /**
+     * Returns the number of moves made by the player.
+     * @return the number of moves made
+     */
+    public int getMovesMade() { return movesMade; }
+
+    /** Records that the player moved into another room. */
+    public void incrementMovesMade() { movesMade++; }
+
+    /**
+     * Returns the number of turns the player has skipped while blocked.
+     * @return the number of blocked turns
+     */
+    public int getTurnsBlocked() { return turnsBlocked; }
+
+    /** Records that the player skipped a turn while blocked. */
+    public void incrementTurnsBlocked() { turnsBlocked++; }
+
+    /**
+     * Returns the number of challenges the player has failed.
+     * @return the number of failed challenges
+     */
+    public int getChallengesFailed() { return challengesFailed; }
+
+    /** Records that the player failed a challenge. */
+    public void incrementChallengesFailed() { challengesFailed++; }
+
+    /**
+     * Returns the number of random events triggered by the player.
+     * @return the number of random events triggered
+     */
+    public int getEventsTriggered() { return eventsTriggered; }
+
+    /** Records that the player triggered a random event. */
+    public void incrementEventsTriggered() { eventsTriggered++; }
+
     /**
      * Adds an action to the player's historical actions.
      * @param action the action to be added
@@ -0,0 +1,74 @@
+package main.game;
+
+/**
+ * Compact summary of how a single player performed in a simulated game.
+ */
+public class PlayerStats {
+    /** The name of the player */
+    private final String name;
+    /** The id of the room where the player ended the game, or null if the player had no position */
+    private final String finalRoomId;
+    /** The number of moves made by the player */
+    private final int moves;
+    /** The number of turns the player skipped while blocked */
+    private final int turnsBlocked;
+    /** The number of challenges the player failed */
+    private final int challengesFailed;
+    /** The number of random events triggered by the player */
+    private final int eventsTriggered;
+
+    /**
+     * Constructs the statistics of the specified player at the end of a game.
+     * @param player the player to summarize
+     */
+    public PlayerStats(Player player) {
+        this.name = player.getName();
+        this.finalRoomId = player.getCurrentPosition() != null ? player.getCurrentPosition().getId() : null;
+        this.moves = player.getMovesMade();
+        this.turnsBlocked = player.getTurnsBlocked();
+        this.challengesFailed = player.getChallengesFailed();
+        this.eventsTriggered = player.getEventsTriggered();
+    }
+
+    /**
+     * Gets the name of the player.
+     * @return the name of the player
+     */
+    public String getName() { return name; }
+
+    /**
+     * Gets the id of the room where the player ended the game.
+     * @return the final room id, or null if the player had no position
+     */
+    public String getFinalRoomId() { return finalRoomId; }
+
+    /**
+     * Gets the number of moves made by the player.
+     * @return the number of moves
+     */
+    public int getMoves() { return moves; }
+
+    /**
+     * Gets the number of turns the player skipped while blocked.
+     * @return the number of blocked turns
+     */
+    public int getTurnsBlocked() { return turnsBlocked; }
+
+    /**
+     * Gets the number of challenges the player failed.
+     * @return the number of failed challenges
+     */
+    public int getChallengesFailed() { return challengesFailed; }
+
+    /**
+     * Gets the number of random events triggered by the player.
+     * @return the number of random events
+     */
+    public int getEventsTriggered() { return eventsTriggered; }
+
+    @Override
+    public String toString() {
+        return name + " [room=" + finalRoomId + ", moves=" + moves + ", blocked=" + turnsBlocked
+                + ", failed=" + challengesFailed + ", events=" + eventsTriggered + "]";
+    }
+}
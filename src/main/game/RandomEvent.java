@@ -3,16 +3,12 @@ package main.game;
 import main.model.Room;
 import main.utils.EventType;
 
-import java.util.Random;
-
 /**
  * Class representing a random event that can occur in the game.
  */
 public class RandomEvent {
     /** Type of the random event */
     private final EventType type;
-    /** Random number generator */
-    private final Random random;
 
     /**
      * Constructs a RandomEvent with the specified type.
@@ -20,7 +16,6 @@ public class RandomEvent {
      */
     public RandomEvent(EventType type) {
         this.type = type;
-        this.random = new Random();
     }
 
     /**
@@ -37,7 +32,8 @@ public class RandomEvent {
      */
     public void activate(Player player, Game game) {
         player.addActionToHistory("Event triggered: " + type.toString());
-        System.out.print("--- EVENT: " + type + "for " + player.getName() + " ---\n");
+        player.incrementEventsTriggered();
+        game.narrate("--- EVENT: " + type + "for " + player.getName() + " ---");
 
         switch(type) {
             case EXTRA_MOVE:
@@ -58,7 +54,7 @@ public class RandomEvent {
                 player.addActionToHistory("Will miss next shift!");
                 break;
             case TURN_BLOCK:
-                int tunrs = random.nextInt(3) + 1;
+                int tunrs = game.getRandom().nextInt(3) + 1;
                 player.setBlockedShifts(tunrs);
                 player.addActionToHistory("Will miss next " + tunrs + " shifts!");
                 break;
@@ -0,0 +1,88 @@
+package main.game;
+
+import main.data.impl.list.ArrayUnorderedList;
+import main.data.impl.list.DoubleLinkedUnorderedList;
+import main.data.impl.list.LinkedList;
+import main.io.MapDTO;
+import main.model.EnigmaData;
+import main.model.Maze;
+
+import java.util.Random;
+
+/**
+ * Runs bot-only games without any console input or output.
+ * Every game builds its own maze from the shared parsed map and draws all of its random decisions
+ * from a generator seeded by the caller, so a game can be replayed exactly from its seed.
+ */
+public class Simulation {
+    /** Default maximum number of turns before a game is stopped without a winner */
+    public static final int DEFAULT_MAX_TURNS = 10000;
+    /** The parsed map every simulated game is built from */
+    private final MapDTO map;
+    /** The enigmas available in every simulated game */
+    private final LinkedList<EnigmaData> enigmas;
+    /** Maximum number of turns before a game is stopped without a winner */
+    private final int maxTurns;
+
+    /**
+     * Constructs a simulation with the default turn limit.
+     * @param map the parsed map to play on
+     * @param enigmas the enigmas available in the game
+     */
+    public Simulation(MapDTO map, LinkedList<EnigmaData> enigmas) {
+        this(map, enigmas, DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Constructs a simulation.
+     * @param map the parsed map to play on
+     * @param enigmas the enigmas available in the game
+     * @param maxTurns the maximum number of turns before a game is stopped without a winner
+     */
+    public Simulation(MapDTO map, LinkedList<EnigmaData> enigmas, int maxTurns) {
+        if (map == null) {
+            throw new IllegalArgumentException("Map cannot be null");
+        }
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("Max turns must be positive");
+        }
+        this.map = map;
+        this.enigmas = enigmas;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Plays one headless game between the given number of bots.
+     * @param numBots the number of bots taking part
+     * @param seed the seed of the random number generator for the game
+     * @return the result of the game
+     */
+    public SimulationResult run(int numBots, long seed) {
+        if (numBots <= 0) {
+            throw new IllegalArgumentException("At least one bot is required");
+        }
+
+        Random random = new Random(seed);
+        Maze maze = new Maze(random);
+        maze.loadMap(map);
+
+        ArrayUnorderedList<Player> bots = new ArrayUnorderedList<>();
+        for (int i = 1; i <= numBots; i++) {
+            bots.addToRear(new Bot("Bot" + i, null));
+        }
+
+        Game game = new Game(maze, new DoubleLinkedUnorderedList<>(), enigmas, null, random, true);
+        game.setMaxShifts(maxTurns);
+        game.addPlayers(bots);
+        game.start();
+
+        PlayerStats[] stats = new PlayerStats[game.getAllPlayers().size()];
+        int index = 0;
+        for (Player p : game.getAllPlayers()) {
+            stats[index++] = new PlayerStats(p);
+        }
+
+        int turns = game.winner != null ? game.getCurrentShift() : game.getCurrentShift() - 1;
+        return new SimulationResult(game.winner != null ? game.winner.getName() : null, turns, stats);
+    }
+}
@@ -0,0 +1,59 @@
+package main.game;
+
+/**
+ * Result of a single simulated game: who won, how long it took and how each player performed.
+ */
+public class SimulationResult {
+    /** The name of the winning player, or null if the game ended without a winner */
+    private final String winner;
+    /** The number of turns played */
+    private final int turns;
+    /** The statistics of every player, in turn order */
+    private final PlayerStats[] players;
+
+    /**
+     * Constructs a simulation result.
+     * @param winner the name of the winning player, or null if there was none
+     * @param turns the number of turns played
+     * @param players the statistics of every player
+     */
+    public SimulationResult(String winner, int turns, PlayerStats[] players) {
+        this.winner = winner;
+        this.turns = turns;
+        this.players = players;
+    }
+
+    /**
+     * Gets the name of the winning player.
+     * @return the winner name, or null if the game ended without a winner
+     */
+    public String getWinner() { return winner; }
+
+    /**
+     * Checks whether the game ended with a winner.
+     * @return true if some player reached a treasure room
+     */
+    public boolean hasWinner() { return winner != null; }
+
+    /**
+     * Gets the number of turns played.
+     * @return the number of turns
+     */
+    public int getTurns() { return turns; }
+
+    /**
+     * Gets the statistics of every player, in turn order.
+     * @return the player statistics
+     */
+    public PlayerStats[] getPlayers() { return players; }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Winner: ").append(winner != null ? winner : "None").append(" | Turns: ").append(turns);
+        for (PlayerStats stats : players) {
+            sb.append("\n  ").append(stats);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,109 @@
+package main.game;
+
+import main.data.impl.list.LinkedList;
+import main.io.MapDTO;
+import main.model.EnigmaData;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays many independent bot-only games concurrently and aggregates their outcome.
+ * The range of games is split recursively into fork-join tasks, each of which plays its games
+ * through a {@link Simulation} and returns a partial {@link TournamentResult}.
+ * Game i is seeded with baseSeed + i, so a tournament gives the same result regardless of the parallelism.
+ */
+public class Tournament {
+    /** Number of games below which a task plays its games instead of splitting further */
+    private static final int SEQUENTIAL_THRESHOLD = 16;
+    /** The simulation shared by every game, which only reads the parsed map and enigmas */
+    private final Simulation simulation;
+    /** The pool that runs the games */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a tournament that runs on the common fork-join pool.
+     * @param map the parsed map every game is built from
+     * @param enigmas the enigmas available in every game
+     * @param maxTurns the maximum number of turns of each game
+     */
+    public Tournament(MapDTO map, LinkedList<EnigmaData> enigmas, int maxTurns) {
+        this(map, enigmas, maxTurns, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a tournament that runs on the given fork-join pool.
+     * @param map the parsed map every game is built from
+     * @param enigmas the enigmas available in every game
+     * @param maxTurns the maximum number of turns of each game
+     * @param pool the pool that runs the games
+     */
+    public Tournament(MapDTO map, LinkedList<EnigmaData> enigmas, int maxTurns, ForkJoinPool pool) {
+        this.simulation = new Simulation(map, enigmas, maxTurns);
+        this.pool = pool;
+    }
+
+    /**
+     * Plays the given number of games and aggregates their results.
+     * @param games the number of games to play
+     * @param numBots the number of bots in every game
+     * @param baseSeed the seed of the first game
+     * @return the aggregated results
+     */
+    public TournamentResult run(int games, int numBots, long baseSeed) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Number of games cannot be negative");
+        }
+        if (numBots <= 0) {
+            throw new IllegalArgumentException("At least one bot is required");
+        }
+        return pool.invoke(new GamesTask(0, games, numBots, baseSeed));
+    }
+
+    /** Task that plays the games in a range, splitting it in half while it is large. */
+    private class GamesTask extends RecursiveTask<TournamentResult> {
+        /** Serialization version, required by the serializable task base class */
+        private static final long serialVersionUID = 1L;
+        /** Index of the first game of the range */
+        private final int from;
+        /** Index after the last game of the range */
+        private final int to;
+        /** Number of bots in every game */
+        private final int numBots;
+        /** Seed of game 0 */
+        private final long baseSeed;
+
+        /**
+         * Creates a task for the games from index from to index to - 1.
+         * @param from index of the first game
+         * @param to index after the last game
+         * @param numBots the number of bots in every game
+         * @param baseSeed the seed of game 0
+         */
+        GamesTask(int from, int to, int numBots, long baseSeed) {
+            this.from = from;
+            this.to = to;
+            this.numBots = numBots;
+            this.baseSeed = baseSeed;
+        }
+
+        @Override
+        protected TournamentResult compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                TournamentResult result = new TournamentResult(numBots);
+                for (int i = from; i < to; i++) {
+                    result.add(simulation.run(numBots, baseSeed + i));
+                }
+                return result;
+            }
+
+            int middle = (from + to) >>> 1;
+            GamesTask left = new GamesTask(from, middle, numBots, baseSeed);
+            GamesTask right = new GamesTask(middle, to, numBots, baseSeed);
+            left.fork();
+            TournamentResult result = right.compute();
+            result.merge(left.join());
+            return result;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package main.game;
+
+/**
+ * Aggregated outcome of many simulated games between the same number of bots.
+ * Partial results computed in parallel are combined with {@link #merge(TournamentResult)}.
+ */
+public class TournamentResult {
+    /** Number of wins of each bot, indexed by turn order */
+    private final int[] wins;
+    /** Number of games played */
+    private int games;
+    /** Number of games that reached the turn limit without a winner */
+    private int draws;
+    /** Sum of the turns of every game */
+    private long totalTurns;
+    /** Fewest turns played in a single game */
+    private int minTurns;
+    /** Most turns played in a single game */
+    private int maxTurns;
+
+    /**
+     * Constructs an empty result for games between the given number of bots.
+     * @param numBots the number of bots in every game
+     */
+    public TournamentResult(int numBots) {
+        this.wins = new int[numBots];
+        this.games = 0;
+        this.draws = 0;
+        this.totalTurns = 0;
+        this.minTurns = Integer.MAX_VALUE;
+        this.maxTurns = 0;
+    }
+
+    /**
+     * Adds the outcome of one game to this result.
+     * @param result the result of the game
+     */
+    public void add(SimulationResult result) {
+        games++;
+        totalTurns += result.getTurns();
+        minTurns = Math.min(minTurns, result.getTurns());
+        maxTurns = Math.max(maxTurns, result.getTurns());
+
+        if (!result.hasWinner()) {
+            draws++;
+            return;
+        }
+        PlayerStats[] players = result.getPlayers();
+        for (int i = 0; i < players.length && i < wins.length; i++) {
+            if (players[i].getName().equals(result.getWinner())) {
+                wins[i]++;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adds every game of another partial result to this one.
+     * @param other the partial result to merge
+     */
+    public void merge(TournamentResult other) {
+        for (int i = 0; i < wins.length; i++) {
+            wins[i] += other.wins[i];
+        }
+        games += other.games;
+        draws += other.draws;
+        totalTurns += other.totalTurns;
+        minTurns = Math.min(minTurns, other.minTurns);
+        maxTurns = Math.max(maxTurns, other.maxTurns);
+    }
+
+    /**
+     * Gets the number of games played.
+     * @return the number of games
+     */
+    public int getGames() { return games; }
+
+    /**
+     * Gets the number of games that ended without a winner.
+     * @return the number of draws
+     */
+    public int getDraws() { return draws; }
+
+    /**
+     * Gets the number of wins of a bot.
+     * @param bot the turn order of the bot, starting at 0
+     * @return the number of wins
+     */
+    public int getWins(int bot) { return wins[bot]; }
+
+    /**
+     * Gets the fraction of games won by a bot.
+     * @param bot the turn order of the bot, starting at 0
+     * @return the win rate between 0 and 1, or 0 if no game was played
+     */
+    public double getWinRate(int bot) {
+        return games == 0 ? 0.0 : (double) wins[bot] / games;
+    }
+
+    /**
+     * Gets the average number of turns per game.
+     * @return the average number of turns, or 0 if no game was played
+     */
+    public double getAverageTurns() {
+        return games == 0 ? 0.0 : (double) totalTurns / games;
+    }
+
+    /**
+     * Gets the fewest turns played in a single game.
+     * @return the minimum number of turns, or 0 if no game was played
+     */
+    public int getMinTurns() { return games == 0 ? 0 : minTurns; }
+
+    /**
+     * Gets the most turns played in a single game.
+     * @return the maximum number of turns
+     */
+    public int getMaxTurns() { return maxTurns; }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Games: ").append(games).append(" | Draws: ").append(draws);
+        sb.append(String.format(" | Turns avg %.2f (min %d, max %d)", getAverageTurns(), getMinTurns(), maxTurns));
+        for (int i = 0; i < wins.length; i++) {
+            sb.append(String.format("%n  Bot%d: %d wins (%.2f%%)", i + 1, wins[i], getWinRate(i) * 100));
+        }
+        return sb.toString();
+    }
+}
@@ -210,9 +210,7 @@ public class Challenge {
         if (playerChoice == this.correctLeverId) {
             roomToUnlock.setChallengeResolved(true);
 
-            for (Hall hall : roomToUnlock.getHallsToUnlock()) {
-                hall.setBlock(false);
-            }
+            game.getMaze().unlockHalls(roomToUnlock);
 
             player.addActionToHistory("Solved LEVER challenge in room " + roomToUnlock.getName() + ". Correct lever pulled (" + correctLeverId + "). Halls unlocked.");
             System.out.println("-> LEVER challenge solved! The paths from " + roomToUnlock.getName() + " are now unlocked.");
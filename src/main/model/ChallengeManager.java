@@ -15,13 +15,23 @@ public class ChallengeManager {
     /** Stack to hold enigmas that are available for use. */
     private LinkedStack<EnigmaData> available = new LinkedStack<>();
     /** Random number generator for shuffling enigmas. */
-    private final Random random = new Random();
+    private final Random random;
 
     /**
      * Constructs a ChallengeManager with a list of enigmas.
      * @param listEnigmas the list of enigmas to manage
      */
     public ChallengeManager(LinkedList<EnigmaData> listEnigmas) {
+        this(listEnigmas, new Random());
+    }
+
+    /**
+     * Constructs a ChallengeManager with a list of enigmas, shuffled with the given random number generator.
+     * @param listEnigmas the list of enigmas to manage
+     * @param random the random number generator used to shuffle the enigmas
+     */
+    public ChallengeManager(LinkedList<EnigmaData> listEnigmas, Random random) {
+        this.random = random;
         initializeStacks(listEnigmas);
     }
 
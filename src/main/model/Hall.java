@@ -72,11 +72,11 @@ public class Hall {
      */
     public boolean activateEvent(Player player, Game game) {
         if (this.block) {
-            System.out.println("The hall is blocked. You cannot proceed.");
+            game.narrate("The hall is blocked. You cannot proceed.");
             return false;
         }
 
-        Random random = new Random();
+        Random random = game.getRandom();
 
         if (random.nextDouble() < 0.50) {
             EventType[] allEventTypes = EventType.values();
@@ -86,7 +86,7 @@ public class Hall {
 
             localEvent.activate(player, game);
 
-            System.out.println("A random event occurred: " + eventType);
+            game.narrate("A random event occurred: " + eventType);
         }
 
     return true;
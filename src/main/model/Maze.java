@@ -1,9 +1,14 @@
 package main.model;
 
+import main.data.adt.ListADT;
 import main.data.impl.graph.WeightedGraph.AdjListGraph;
+import main.data.impl.graph.WeightedGraph.DistanceField;
+import main.data.impl.graph.WeightedGraph.Heuristic;
 import main.data.impl.list.DoubleLinkedUnorderedList;
 import main.data.impl.list.LinkedUnorderedList;
 import main.data.impl.list.ArrayUnorderedList;
+import main.data.impl.list.UnmodifiableList;
+import main.data.impl.map.HashMap;
 import main.io.HallDTO;
 import main.io.JSONReader;
 import main.io.MapDTO;
@@ -19,13 +24,39 @@ import java.util.Iterator;
 public class Maze {
     /** Graph representing the rooms in the maze. */
     private final AdjListGraph<Room> rooms = new AdjListGraph<>();
+    /** Index of the rooms in the maze by their unique identifier. */
+    private final HashMap<String, Room> roomsById = new HashMap<>();
     /** Random number generator for maze operations. */
-    private final Random random = new Random();
+    private final Random random;
     /** List of entry rooms in the maze. */
     private final DoubleLinkedUnorderedList<Room> entryRooms = new DoubleLinkedUnorderedList<>();
+    /** List of rooms that contain treasures, filled as rooms are added. */
+    private final DoubleLinkedUnorderedList<Room> treasureRooms = new DoubleLinkedUnorderedList<>();
+    /** Read-only view of the treasure rooms handed out to callers. */
+    private final ListADT<Room> treasureView = new UnmodifiableList<>(treasureRooms);
+    /** Distance and next room towards the nearest treasure for every room, ignoring locks, built on first use. */
+    private DistanceField<Room> treasureField;
+    /** Distance towards the nearest treasure through open halls, repaired in place as halls are blocked or opened. */
+    private AdjListGraph<Room>.IncrementalDistanceField openTreasureField;
+    /** Lowest hall size per unit of Manhattan distance between the rooms it joins, or infinity if there are no halls. */
+    private double costPerGridStep = Double.POSITIVE_INFINITY;
+    /** Manhattan distance between two rooms scaled by the cheapest hall cost per grid step, a lower bound of their distance. */
+    private final Heuristic<Room> gridHeuristic = (room, target) -> {
+        if (Double.isInfinite(costPerGridStep)) return 0.0;
+        return costPerGridStep * (Math.abs(room.getX() - target.getX()) + Math.abs(room.getY() - target.getY()));
+    };
 
     /** Default constructor for Maze. */
     public Maze() {
+        this(new Random());
+    }
+
+    /**
+     * Constructs a Maze that draws its random choices from the given generator.
+     * @param random the random number generator to use, e.g. a seeded one for reproducible simulations
+     */
+    public Maze(Random random) {
+        this.random = random;
     }
 
     /**
@@ -39,6 +70,11 @@ public class Maze {
         }
 
         rooms.addVertex(d);
+        roomsById.put(d.getId(), d);
+        if (d.isHasTreasure()) {
+            treasureRooms.addToRear(d);
+        }
+        treasureField = null;
         return true;
     }
 
@@ -58,15 +94,18 @@ public class Maze {
             return false;
         }
 
-        for (Hall existente : origin.getNeighbors()) {
-            if (existente.getDestination().equals(destination)) {
-                return false;
-            }
+        if (origin.getHallTo(destination) != null) {
+            return false;
         }
 
-        origin.getNeighbors().addToRear(c);
-        destination.getNeighbors().addToRear(new Hall(origin, c.getSize()));
+        origin.addHall(c);
+        destination.addHall(new Hall(origin, c.getSize()));
         rooms.addEdge(origin, destination, c.getSize());
+        int gridDistance = Math.abs(origin.getX() - destination.getX()) + Math.abs(origin.getY() - destination.getY());
+        if (gridDistance > 0) {
+            costPerGridStep = Math.min(costPerGridStep, (double) c.getSize() / gridDistance);
+        }
+        treasureField = null;
         return true;
     }
 
@@ -79,17 +118,130 @@ public class Maze {
     }
 
     /**
-     * Retrieves a list of rooms that contain treasures.
-     * @return a list of treasure rooms
+     * Retrieves the rooms that contain treasures.
+     * The list is kept up to date as rooms are added, so no scan or copy is made on each call.
+     * @return a read-only list of treasure rooms
      */
-    public DoubleLinkedUnorderedList<Room> getTreasures() {
-        DoubleLinkedUnorderedList<Room> treasures = new DoubleLinkedUnorderedList<>();
-        for (Room room : rooms) {
-            if (room.isHasTreasure()) {
-                treasures.addToRear(room);
+    public ListADT<Room> getTreasures() {
+        return treasureView;
+    }
+
+    /**
+     * Retrieves the distance and next room towards the nearest treasure for every room in the maze.
+     * The field is computed once with a multi-source search from all treasure rooms and reused until
+     * a room or hall is added. It ignores locks: blocked halls count as passable, so locking or unlocking
+     * a hall does not change it. Use {@link #getOpenTreasureField()} to route through open halls only.
+     * @return the distance field towards the treasure rooms
+     */
+    public DistanceField<Room> getTreasureField() {
+        if (treasureField == null) {
+            treasureField = rooms.distanceFieldTo(treasureRooms);
+        }
+        return treasureField;
+    }
+
+    /**
+     * Retrieves the distance and next room towards the nearest treasure through halls that are not blocked.
+     * Unlike {@link #getTreasureField()}, the field is built once and then repaired only around the halls
+     * whose blocking state changed, so opening the halls of a lever costs work proportional to the rooms affected.
+     * @return the incremental distance field towards the treasure rooms
+     */
+    public AdjListGraph<Room>.IncrementalDistanceField getOpenTreasureField() {
+        if (openTreasureField == null) {
+            openTreasureField = rooms.incrementalDistanceFieldTo(treasureRooms);
+        }
+        return openTreasureField;
+    }
+
+    /**
+     * Blocks or unblocks a hall, keeping the room graph in sync so blocked-aware queries see the change.
+     * @param origin the room the hall leaves from
+     * @param hall the hall to change
+     * @param blocked true to block the hall, false to open it
+     */
+    public void setHallBlocked(Room origin, Hall hall, boolean blocked) {
+        hall.setBlock(blocked);
+        rooms.setEdgeBlocked(origin, hall.getDestination(), blocked);
+    }
+
+    /**
+     * Opens every hall locked by the challenge of a room, after the challenge has been solved.
+     * @param room the room whose halls are unlocked
+     */
+    public void unlockHalls(Room room) {
+        for (Hall hall : room.getHallsToUnlock()) {
+            setHallBlocked(room, hall, false);
+        }
+    }
+
+    /**
+     * Checks whether a room can be reached from another through halls that are not blocked.
+     * @param from the starting room
+     * @param to the target room
+     * @return true if there is an open path between the rooms
+     */
+    public boolean canReach(Room from, Room to) {
+        return rooms.isReachableOpen(from, to);
+    }
+
+    /**
+     * Finds a shortest path between two rooms that only uses halls that are not blocked.
+     * @param from the starting room
+     * @param to the target room
+     * @return an iterator over the rooms of the path, starting with the origin, or empty if every path is blocked
+     */
+    public Iterator<Room> findOpenPath(Room from, Room to) {
+        return rooms.interatorOpenShortestPath(from, to);
+    }
+
+    /**
+     * Checks that every entrance room is connected to at least one treasure room.
+     * Uses the connected components kept by the room graph as halls are added, so the check is near-linear
+     * in the number of rooms. Blocked halls are counted as connections, since levers can open them.
+     * @return true if every entrance can reach some treasure, false otherwise or if the maze has no treasure
+     */
+    public boolean entrancesReachTreasure() {
+        HashMap<Integer, Room> treasureComponents = new HashMap<>(treasureRooms.size());
+        for (Room treasure : treasureRooms) {
+            treasureComponents.put(rooms.componentOf(treasure), treasure);
+        }
+        for (Room entrance : entryRooms) {
+            if (!treasureComponents.containsKey(rooms.componentOf(entrance))) {
+                return false;
             }
         }
-        return treasures;
+        return !treasureRooms.isEmpty();
+    }
+
+    /**
+     * Retrieves the default A* heuristic for this maze: the Manhattan distance between the rooms' coordinates,
+     * scaled by the minimum hall size. When a hall joins rooms more than one grid step apart its size is divided
+     * by that distance first, so the estimate never exceeds the real distance.
+     * @return the grid distance heuristic
+     */
+    public Heuristic<Room> getGridHeuristic() {
+        return gridHeuristic;
+    }
+
+    /**
+     * Finds a shortest path between two rooms with an A* search guided by {@link #getGridHeuristic()}.
+     * @param from the starting room
+     * @param to the target room
+     * @return an iterator over the rooms of the path, starting with the origin, or empty if there is no path
+     */
+    public Iterator<Room> findPath(Room from, Room to) {
+        return rooms.interatorAStar(from, to, gridHeuristic);
+    }
+
+    /**
+     * Finds a shortest path between two rooms with an A* search guided by the given heuristic.
+     * @param from the starting room
+     * @param to the target room
+     * @param heuristic an estimate of the remaining distance that never exceeds the real one
+     * @return an iterator over the rooms of the path, starting with the origin, or empty if there is no path
+     */
+    public Iterator<Room> findPath(Room from, Room to, Heuristic<Room> heuristic) {
+        return rooms.interatorAStar(from, to, heuristic);
     }
 
     /**
@@ -125,6 +277,16 @@ public class Maze {
             return;
         }
 
+        loadMap(map);
+        printMaze();
+    }
+
+    /**
+     * Builds the rooms, halls and challenges of the maze from an already parsed map, without printing it.
+     * The map is only read, so the same MapDTO can be used to build several independent mazes.
+     * @param map the parsed map to load
+     */
+    public void loadMap(MapDTO map) {
         ArrayUnorderedList<String> enigmaCandidates = new ArrayUnorderedList<>();
 
 
@@ -176,6 +338,7 @@ public class Maze {
             int randomIndex = random.nextInt(currentCandidatesCount);
 
             String selectedId = null;
+            int counter = 0;
             Iterator<String> it = enigmaCandidates.iterator();
             while (it.hasNext()) {
                 String id = it.next();
@@ -205,7 +368,7 @@ public class Maze {
                 challenge = new Challenge(ChallengeType.LEVER, correctLeverId);
 
                 for (Hall hall : room.getNeighbors()) {
-                    hall.setBlock(true);
+                    setHallBlocked(room, hall, true);
                     room.getHallsToUnlock().addToRear(hall);
                 }
 
@@ -215,8 +378,6 @@ public class Maze {
 
             room.setChallenge(challenge);
         }
-
-        printMaze();
     }
 
     /**
@@ -337,12 +498,7 @@ public class Maze {
      * @return the Room object if found, null otherwise
      */
     public Room getRoomById(String id) {
-        for (Room room : rooms) {
-            if (room.getId().equals(id)) {
-                return room;
-            }
-        }
-        return null;
+        return roomsById.get(id);
     }
 
     /**
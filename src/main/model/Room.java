@@ -1,6 +1,7 @@
 package main.model;
 
 import main.data.impl.list.LinkedUnorderedList;
+import main.data.impl.map.HashMap;
 
 /**
  * Class representing a room in the maze.
@@ -12,6 +13,8 @@ public class Room {
     private String name;
     /** List of neighboring halls */
     private final LinkedUnorderedList<Hall> neighbors = new LinkedUnorderedList<>();
+    /** Index of the neighboring halls by their destination room */
+    private final HashMap<Room, Hall> hallsByDestination = new HashMap<>();
     /** Indicates if the room has a treasure */
     private boolean hasTreasure;
     /** Indicates if the challenge in the room has been resolved */
@@ -64,6 +67,30 @@ public class Room {
         return neighbors;
     }
 
+    /**
+     * Adds a hall leaving this room to the list of neighbors and to the destination index.
+     * Halls must be added through this method, not directly to {@link #getNeighbors()}, for {@link #getHallTo(Room)} to find them.
+     * @param hall the hall to add
+     * @return true if the hall was added, false if the room already has a hall to the same destination
+     */
+    public boolean addHall(Hall hall) {
+        if (hall == null || hallsByDestination.containsKey(hall.getDestination())) {
+            return false;
+        }
+        neighbors.addToRear(hall);
+        hallsByDestination.put(hall.getDestination(), hall);
+        return true;
+    }
+
+    /**
+     * Gets the hall leading from this room to the given room.
+     * @param destination the destination room
+     * @return the hall to the destination, or null if the rooms are not connected
+     */
+    public Hall getHallTo(Room destination) {
+        return hallsByDestination.get(destination);
+    }
+
     /**
      * Checks if the room has a treasure.
      * @return true if the room has a treasure, false otherwise